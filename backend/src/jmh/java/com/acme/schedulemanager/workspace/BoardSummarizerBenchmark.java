@@ -0,0 +1,52 @@
+package com.acme.schedulemanager.workspace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardSummarizerBenchmark {
+    @Param({"worklog.html", "meeting.html", "notion-import.html"})
+    public String document;
+
+    private BoardSummarizer summarizer;
+    private String html;
+
+    @Setup
+    public void setUp() throws IOException {
+        summarizer = new BoardSummarizer(new ObjectMapper());
+        try (InputStream in = getClass().getResourceAsStream("/board-summary/" + document)) {
+            if (in == null) throw new IllegalStateException("코퍼스 파일이 없습니다: " + document);
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public BoardSummary scanner() {
+        return HtmlSummaryScanner.scan(html);
+    }
+
+    @Benchmark
+    public BoardSummary jsoup() {
+        return summarizer.summarizeWithJsoup(html);
+    }
+}
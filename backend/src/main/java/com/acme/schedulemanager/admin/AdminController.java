@@ -1,5 +1,9 @@
 package com.acme.schedulemanager.admin;
 
+import com.acme.schedulemanager.common.ApiMediaTypes;
+import com.acme.schedulemanager.content.BlockChunkService;
+import com.acme.schedulemanager.content.BlockRevisionService;
+import com.acme.schedulemanager.content.ContentDtos;
 import com.acme.schedulemanager.domain.entity.BlockDocument;
 import com.acme.schedulemanager.domain.entity.DayNote;
 import com.acme.schedulemanager.domain.entity.UserAccount;
@@ -9,12 +13,20 @@ import com.acme.schedulemanager.domain.repo.DayNoteRepository;
 import com.acme.schedulemanager.domain.repo.FileAssetRepository;
 import com.acme.schedulemanager.domain.repo.UserAccountRepository;
 import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
+import com.acme.schedulemanager.workspace.BoardSummaryService;
+import com.acme.schedulemanager.workspace.DayNoteChangedEvent;
+import com.acme.schedulemanager.workspace.ItemChangedEvent;
+import com.acme.schedulemanager.workspace.ItemContentChangedEvent;
+import com.acme.schedulemanager.workspace.WorkspaceBulkChangedEvent;
+import com.acme.schedulemanager.workspace.WorkspaceChangeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.Map;
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +41,11 @@ public class AdminController {
     private final DayNoteRepository dayNoteRepo;
     private final FileAssetRepository fileRepo;
     private final ObjectMapper objectMapper;
+    private final BoardSummaryService boardSummaryService;
+    private final WorkspaceChangeService changeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockChunkService blockChunkService;
+    private final BlockRevisionService revisionService;
 
     public AdminController(
             UserAccountRepository userRepo,
@@ -36,7 +53,12 @@ public class AdminController {
             BlockDocumentRepository blockRepo,
             DayNoteRepository dayNoteRepo,
             FileAssetRepository fileRepo,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            BoardSummaryService boardSummaryService,
+            WorkspaceChangeService changeService,
+            ApplicationEventPublisher eventPublisher,
+            BlockChunkService blockChunkService,
+            BlockRevisionService revisionService
     ) {
         this.userRepo = userRepo;
         this.itemRepo = itemRepo;
@@ -44,6 +66,11 @@ public class AdminController {
         this.dayNoteRepo = dayNoteRepo;
         this.fileRepo = fileRepo;
         this.objectMapper = objectMapper;
+        this.boardSummaryService = boardSummaryService;
+        this.changeService = changeService;
+        this.eventPublisher = eventPublisher;
+        this.blockChunkService = blockChunkService;
+        this.revisionService = revisionService;
     }
 
     @GetMapping("/stats")
@@ -91,14 +118,27 @@ public class AdminController {
 
     @GetMapping("/users/{userId}/items/{itemId}/blocks")
     public AdminDtos.UserItemBlocksResponse userItemBlocks(@PathVariable UUID userId, @PathVariable UUID itemId) {
+        verifyItemOwner(userId, itemId);
+        var blocks = blockRepo.findTextByItemId(itemId).stream()
+                .map(b -> new AdminDtos.BlockRow(b.getId(), b.getSortOrder(), b.getType(), b.getContent()))
+                .toList();
+        return new AdminDtos.UserItemBlocksResponse(userId, itemId, blocks);
+    }
+
+    @GetMapping(value = "/users/{userId}/items/{itemId}/blocks", produces = ApiMediaTypes.RAW_CONTENT_JSON_VALUE)
+    public AdminDtos.RawUserItemBlocksResponse userItemBlocksRaw(@PathVariable UUID userId, @PathVariable UUID itemId) {
+        verifyItemOwner(userId, itemId);
+        var blocks = blockRepo.findTextByItemId(itemId).stream()
+                .map(b -> new AdminDtos.RawBlockRow(b.getId(), b.getSortOrder(), b.getType(), b.getContent()))
+                .toList();
+        return new AdminDtos.RawUserItemBlocksResponse(userId, itemId, blocks);
+    }
+
+    private void verifyItemOwner(UUID userId, UUID itemId) {
         WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("일정을 찾을 수 없습니다."));
         if (!item.getUserId().equals(userId)) {
             throw new IllegalArgumentException("사용자와 일정이 일치하지 않습니다.");
         }
-        var blocks = blockRepo.findByItemIdOrderBySortOrderAsc(itemId).stream()
-                .map(b -> new AdminDtos.BlockRow(b.getId(), b.getSortOrder(), b.getType(), b.getContent()))
-                .toList();
-        return new AdminDtos.UserItemBlocksResponse(userId, itemId, blocks);
     }
 
     @PatchMapping("/users/{userId}/role")
@@ -137,6 +177,7 @@ public class AdminController {
     public void deleteUser(@PathVariable UUID userId) {
         UserAccount user = userRepo.findById(userId).orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
         userRepo.delete(user);
+        eventPublisher.publishEvent(new WorkspaceBulkChangedEvent(userId));
     }
 
     @DeleteMapping("/users/{userId}/items/{itemId}")
@@ -144,7 +185,12 @@ public class AdminController {
     public void deleteUserItem(@PathVariable UUID userId, @PathVariable UUID itemId) {
         WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("일정을 찾을 수 없습니다."));
         if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("사용자와 일정이 일치하지 않습니다.");
+        boolean hasChildren = itemRepo.existsByParentId(itemId);
+        changeService.recordDeletion(userId, item);
         itemRepo.delete(item);
+        eventPublisher.publishEvent(hasChildren
+                ? new WorkspaceBulkChangedEvent(userId)
+                : new ItemChangedEvent(userId, itemId, item.getDueDate(), null));
     }
 
     @GetMapping("/users/{userId}/items/{itemId}/detail")
@@ -152,15 +198,7 @@ public class AdminController {
         WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("일정을 찾을 수 없습니다."));
         if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("사용자와 일정이 일치하지 않습니다.");
 
-        String html = "";
-        var block = blockRepo.findFirstByItemIdOrderBySortOrderAsc(itemId).orElse(null);
-        if (block != null) {
-            try {
-                Map<String, Object> payload = objectMapper.readValue(block.getContent(), Map.class);
-                html = String.valueOf(payload.getOrDefault("html", ""));
-            } catch (Exception ignored) {
-            }
-        }
+        String html = blockChunkService.joinedHtml(itemId);
 
         String issue = "";
         String memo = "";
@@ -186,20 +224,27 @@ public class AdminController {
     ) throws Exception {
         WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("일정을 찾을 수 없습니다."));
         if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("사용자와 일정이 일치하지 않습니다.");
+        LocalDate previousDueDate = item.getDueDate();
 
         if (request.title() != null && !request.title().isBlank()) item.setTitle(request.title());
         if (request.status() != null && !request.status().isBlank()) item.setStatus(request.status());
         if (request.dueDate() != null) item.setDueDate(request.dueDate());
         if (request.templateType() != null && !request.templateType().isBlank()) item.setTemplateType(request.templateType());
         itemRepo.save(item);
+        eventPublisher.publishEvent(new ItemChangedEvent(userId, itemId, previousDueDate, item.getDueDate()));
 
+        revisionService.recordBaseline(userId, itemId);
         blockRepo.deleteByItemId(itemId);
-        BlockDocument block = new BlockDocument();
-        block.setItemId(itemId);
-        block.setSortOrder(0);
-        block.setType("paragraph");
-        block.setContent(objectMapper.writeValueAsString(Map.of("html", request.html() == null ? "" : request.html())));
-        blockRepo.save(block);
+        String content = objectMapper.writeValueAsString(Map.of("html", request.html() == null ? "" : request.html()));
+        for (ContentDtos.BlockPayload payload : blockChunkService.expand(List.of(new ContentDtos.BlockPayload(null, 0, "paragraph", content)))) {
+            BlockDocument block = new BlockDocument();
+            block.setItemId(itemId);
+            block.setSortOrder(payload.sortOrder());
+            block.setType(payload.type());
+            block.setContent(payload.content());
+            blockRepo.save(block);
+        }
+        eventPublisher.publishEvent(new ItemContentChangedEvent(userId, itemId, item.getDueDate()));
 
         if (item.getDueDate() != null) {
             DayNote note = dayNoteRepo.findByUserIdAndDueDate(userId, item.getDueDate()).orElseGet(() -> {
@@ -211,8 +256,29 @@ public class AdminController {
             note.setIssue(request.issue() == null ? "" : request.issue());
             note.setMemo(request.memo() == null ? "" : request.memo());
             dayNoteRepo.save(note);
+            eventPublisher.publishEvent(new DayNoteChangedEvent(userId, item.getDueDate()));
         }
 
         return userItemDetail(userId, itemId);
     }
+
+    @PostMapping("/blocks/split-oversized")
+    public BlockChunkService.SplitReport splitOversizedBlocks(@RequestParam(value = "limit", defaultValue = "500") int limit) {
+        return blockChunkService.splitAllOversized(Math.max(1, limit));
+    }
+
+    @PostMapping("/board-summaries/backfill")
+    public AdminDtos.BoardSummaryBackfillResponse backfillBoardSummaries() {
+        return new AdminDtos.BoardSummaryBackfillResponse(boardSummaryService.backfill());
+    }
+
+    @GetMapping("/board-summaries/consistency")
+    public BoardSummaryService.ConsistencyReport checkBoardSummaries(@RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        return boardSummaryService.checkConsistency(Math.max(1, limit), false);
+    }
+
+    @PostMapping("/board-summaries/repair")
+    public BoardSummaryService.ConsistencyReport repairBoardSummaries(@RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        return boardSummaryService.checkConsistency(Math.max(1, limit), true);
+    }
 }
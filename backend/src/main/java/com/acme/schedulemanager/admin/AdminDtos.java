@@ -1,5 +1,7 @@
 package com.acme.schedulemanager.admin;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
 import java.util.UUID;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -11,7 +13,10 @@ public class AdminDtos {
     public record UserItemRow(UUID id, String title, String status, LocalDate dueDate, String templateType, Instant updatedAt, long blockCount, long fileCount) {}
     public record BlockRow(UUID id, int sortOrder, String type, String content) {}
     public record UserItemBlocksResponse(UUID userId, UUID itemId, List<BlockRow> blocks) {}
+    public record RawBlockRow(UUID id, int sortOrder, String type, @JsonRawValue String content) {}
+    public record RawUserItemBlocksResponse(UUID userId, UUID itemId, List<RawBlockRow> blocks) {}
     public record UserRoleUpdateRequest(String role) {}
+    public record BoardSummaryBackfillResponse(int created) {}
     public record UserItemDetailResponse(
             UUID userId,
             UUID itemId,
@@ -0,0 +1,8 @@
+package com.acme.schedulemanager.common;
+
+public final class ApiMediaTypes {
+    /** 블록 content를 JSON 문자열이 아닌 원본 JSON 값으로 내려주는 응답 형식. */
+    public static final String RAW_CONTENT_JSON_VALUE = "application/vnd.schedule.raw-content+json";
+
+    private ApiMediaTypes() {}
+}
@@ -0,0 +1,7 @@
+package com.acme.schedulemanager.common;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.acme.schedulemanager.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+public final class TransactionBatches {
+    private TransactionBatches() {}
+
+    public static <K, V> void beforeCommit(Object owner, K key, V value, BiConsumer<K, V> flush) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush.accept(key, value);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<K, V> pending = (Map<K, V>) TransactionSynchronizationManager.getResource(owner);
+        if (pending == null) {
+            Map<K, V> created = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(owner, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    created.forEach(flush);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(owner);
+                }
+            });
+            pending = created;
+        }
+        pending.put(key, value);
+    }
+}
@@ -3,8 +3,10 @@ package com.acme.schedulemanager.config;
 import com.acme.schedulemanager.security.JwtProperties;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
 @ConfigurationPropertiesScan(basePackageClasses = JwtProperties.class)
 public class AppConfig {
 }
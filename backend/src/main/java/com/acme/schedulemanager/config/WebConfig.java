@@ -0,0 +1,21 @@
+package com.acme.schedulemanager.config;
+
+import com.acme.schedulemanager.workspace.WorkspaceETagInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private final WorkspaceETagInterceptor workspaceETagInterceptor;
+
+    public WebConfig(WorkspaceETagInterceptor workspaceETagInterceptor) {
+        this.workspaceETagInterceptor = workspaceETagInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(workspaceETagInterceptor)
+                .addPathPatterns("/api/workspace/items", "/api/workspace/items/board", "/api/workspace/calendar", "/api/content/*/blocks");
+    }
+}
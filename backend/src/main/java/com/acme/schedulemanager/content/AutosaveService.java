@@ -0,0 +1,214 @@
+package com.acme.schedulemanager.content;
+
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
+import com.acme.schedulemanager.workspace.WorkspaceVersion;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class AutosaveService implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AutosaveService.class);
+    private static final long CLAIM_RETRY_MILLIS = 50;
+
+    private final AutosaveStore store;
+    private final ContentService contentService;
+    private final WorkspaceItemRepository itemRepo;
+    private final ObjectMapper objectMapper;
+    private final WorkspaceVersion workspaceVersion;
+    private final MeterRegistry meterRegistry;
+    private final Counter buffered;
+    private final Counter dropped;
+    private volatile boolean running;
+
+    @Value("${app.autosave.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.autosave.debounce-ms:3000}")
+    private long debounceMillis;
+
+    @Value("${app.autosave.max-delay-ms:30000}")
+    private long maxDelayMillis;
+
+    @Value("${app.autosave.lease-ms:15000}")
+    private long leaseMillis;
+
+    @Value("${app.autosave.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.autosave.read-wait-ms:2000}")
+    private long readWaitMillis;
+
+    @Value("${app.autosave.shutdown-timeout-ms:20000}")
+    private long shutdownTimeoutMillis;
+
+    public AutosaveService(
+            AutosaveStore store,
+            ContentService contentService,
+            WorkspaceItemRepository itemRepo,
+            ObjectMapper objectMapper,
+            WorkspaceVersion workspaceVersion,
+            MeterRegistry meterRegistry
+    ) {
+        this.store = store;
+        this.contentService = contentService;
+        this.itemRepo = itemRepo;
+        this.objectMapper = objectMapper;
+        this.workspaceVersion = workspaceVersion;
+        this.meterRegistry = meterRegistry;
+        this.buffered = Counter.builder("autosave.buffered").register(meterRegistry);
+        this.dropped = Counter.builder("autosave.dropped").register(meterRegistry);
+    }
+
+    public ContentDtos.AutosaveResponse autosave(UUID userId, UUID itemId, ContentDtos.SaveBlocksRequest request) {
+        if (!enabled) {
+            ContentDtos.SaveBlocksResponse saved = contentService.save(userId, itemId, request);
+            return new ContentDtos.AutosaveResponse(itemId, saved.version(), false, saved.blocks());
+        }
+        verifyOwner(userId, itemId);
+        List<ContentDtos.BlockPayload> blocks = new ArrayList<>();
+        for (ContentDtos.BlockPayload block : request.blocks() == null ? List.<ContentDtos.BlockPayload>of() : request.blocks()) {
+            if (isBlank(block.type()) || isBlank(block.content())) {
+                throw new IllegalArgumentException("블록에는 type과 content가 필요합니다.");
+            }
+            UUID id = block.id() == null ? UUID.randomUUID() : block.id();
+            blocks.add(new ContentDtos.BlockPayload(id, block.sortOrder(), block.type(), block.content()));
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new ContentDtos.SaveBlocksRequest(blocks));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("블록을 저장할 수 없습니다.", e);
+        }
+        store.put(itemId, userId, payload, System.currentTimeMillis(), debounceMillis, maxDelayMillis);
+        workspaceVersion.bump(userId);
+        buffered.increment();
+        // 대기 중인 자동 저장은 한 번에 반영되고 반영 때마다 버전이 1 오르므로, 반영 후 버전을 미리 알려 준다.
+        long version = itemRepo.findContentVersion(itemId).orElseThrow(() -> new EntityNotFoundException("항목을 찾을 수 없습니다.")) + 1;
+        return new ContentDtos.AutosaveResponse(itemId, version, true, blocks);
+    }
+
+    public void flushPending(UUID userId, UUID itemId) {
+        if (!enabled || !store.contains(itemId)) return;
+        verifyOwner(userId, itemId);
+        long deadline = System.currentTimeMillis() + readWaitMillis;
+        while (true) {
+            long now = System.currentTimeMillis();
+            Optional<AutosaveStore.Entry> entry = store.claim(itemId, now, now + leaseMillis);
+            if (entry.isPresent()) {
+                flush(entry.get(), "read");
+                return;
+            }
+            if (!store.contains(itemId)) return;
+            if (now >= deadline) {
+                log.warn("autosave flush for item {} is still leased elsewhere, reading stored content", itemId);
+                return;
+            }
+            try {
+                Thread.sleep(CLAIM_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public void discard(UUID userId, UUID itemId) {
+        if (!enabled || !store.contains(itemId)) return;
+        verifyOwner(userId, itemId);
+        store.discard(itemId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.autosave.sweep-ms:1000}")
+    public void sweep() {
+        if (!enabled || !running) return;
+        try {
+            drain(System.currentTimeMillis(), "debounce", Long.MAX_VALUE);
+        } catch (Exception e) {
+            log.warn("autosave sweep failed: {}", e.getMessage());
+        }
+    }
+
+    private int drain(long dueBefore, String trigger, long deadline) {
+        int flushed = 0;
+        while (System.currentTimeMillis() < deadline) {
+            long now = System.currentTimeMillis();
+            List<UUID> itemIds = store.claimDue(dueBefore, now + leaseMillis, batchSize);
+            if (itemIds.isEmpty()) break;
+            int batchFlushed = 0;
+            for (UUID itemId : itemIds) {
+                Optional<AutosaveStore.Entry> entry = store.get(itemId);
+                if (entry.isPresent() && flush(entry.get(), trigger)) batchFlushed++;
+            }
+            if (batchFlushed == 0) break;
+            flushed += batchFlushed;
+        }
+        return flushed;
+    }
+
+    private boolean flush(AutosaveStore.Entry entry, String trigger) {
+        try {
+            ContentDtos.SaveBlocksRequest request = objectMapper.readValue(entry.payload(), ContentDtos.SaveBlocksRequest.class);
+            contentService.saveBuffered(entry.userId(), entry.itemId(), request);
+            store.complete(entry.itemId(), entry.seq());
+            meterRegistry.counter("autosave.flushes", "trigger", trigger).increment();
+            return true;
+        } catch (EntityNotFoundException | IllegalArgumentException | DataIntegrityViolationException | JsonProcessingException e) {
+            store.complete(entry.itemId(), entry.seq());
+            dropped.increment();
+            log.warn("dropped buffered autosave for item {}: {}", entry.itemId(), e.getMessage());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("autosave flush for item {} failed, will retry after lease: {}", entry.itemId(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!enabled) return;
+        int flushed = drain(Long.MAX_VALUE, "shutdown", System.currentTimeMillis() + shutdownTimeoutMillis);
+        if (flushed > 0) log.info("flushed {} buffered autosaves on shutdown", flushed);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // 웹 서버가 요청 수신을 멈춘 뒤에 남은 버퍼를 비우도록 웹 서버 생명주기보다 늦게 멈춘다.
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void verifyOwner(UUID userId, UUID itemId) {
+        WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("항목을 찾을 수 없습니다."));
+        if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("권한이 없습니다.");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,28 @@
+package com.acme.schedulemanager.content;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 항목별 자동 저장 버퍼. 항목마다 최신 상태 한 건만 보관하고, 쓰기마다 {@code seq}가 증가한다.
+ * 반영(flush)하려는 쪽은 먼저 임대(lease)를 잡고, 반영 후 {@link #complete}로 같은 {@code seq}일 때만 비운다.
+ */
+interface AutosaveStore {
+    long put(UUID itemId, UUID userId, String payload, long nowMillis, long debounceMillis, long maxDelayMillis);
+
+    List<UUID> claimDue(long nowMillis, long leaseUntilMillis, int limit);
+
+    /** 항목이 없거나 다른 쪽이 임대 중이면 빈 값. */
+    Optional<Entry> claim(UUID itemId, long nowMillis, long leaseUntilMillis);
+
+    Optional<Entry> get(UUID itemId);
+
+    boolean contains(UUID itemId);
+
+    boolean complete(UUID itemId, long seq);
+
+    void discard(UUID itemId);
+
+    record Entry(UUID itemId, UUID userId, long seq, String payload) {}
+}
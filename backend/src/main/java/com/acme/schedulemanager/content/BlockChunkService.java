@@ -0,0 +1,181 @@
+package com.acme.schedulemanager.content;
+
+import com.acme.schedulemanager.domain.entity.BlockDocument;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
+import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
+import com.acme.schedulemanager.workspace.ItemContentChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class BlockChunkService {
+    private static final Logger log = LoggerFactory.getLogger(BlockChunkService.class);
+    private static final TypeReference<LinkedHashMap<String, Object>> PAYLOAD = new TypeReference<>() {};
+    /** 분할로 생긴 뒤쪽 조각임을 표시하는 payload 필드. 보드 요약은 첫 블록과 이 조각들을 이어 붙여 계산한다. */
+    public static final String CONTINUED = "continued";
+
+    private final BlockDocumentRepository blockRepo;
+    private final WorkspaceItemRepository itemRepo;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockRevisionService revisionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.content.max-block-html-chars:200000}")
+    private int maxBlockHtmlChars;
+
+    public BlockChunkService(
+            BlockDocumentRepository blockRepo,
+            WorkspaceItemRepository itemRepo,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            BlockRevisionService revisionService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.blockRepo = blockRepo;
+        this.itemRepo = itemRepo;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.revisionService = revisionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 항목의 블록 중 HTML이 너무 큰 블록을 섹션 경계에서 나눠 바로 뒤에 이어지는 블록으로 만든다. 추가된 블록 수를 반환한다. */
+    public int splitOversized(UUID userId, UUID itemId) {
+        revisionService.recordBaseline(userId, itemId);
+        List<BlockDocument> blocks = blockRepo.findByItemIdOrderBySortOrderAsc(itemId);
+        List<BlockDocument> inserts = new ArrayList<>();
+        int shift = 0;
+        for (BlockDocument block : blocks) {
+            if (shift > 0) block.setSortOrder(block.getSortOrder() + shift);
+            if (block.getContent() == null || block.getContent().length() <= maxBlockHtmlChars) continue;
+            Map<String, Object> payload = readPayload(block.getContent());
+            if (payload == null || !(payload.get("html") instanceof String html)) continue;
+            List<String> chunks = HtmlChunker.split(html, maxBlockHtmlChars);
+            if (chunks.size() < 2) continue;
+            payload.put("html", chunks.get(0));
+            block.setContent(writePayload(payload));
+            for (int i = 1; i < chunks.size(); i++) {
+                BlockDocument chunk = new BlockDocument();
+                chunk.setItemId(itemId);
+                chunk.setSortOrder(block.getSortOrder() + i);
+                chunk.setType(block.getType());
+                chunk.setContent(writePayload(chunkPayload(chunks.get(i))));
+                inserts.add(chunk);
+            }
+            shift += chunks.size() - 1;
+        }
+        if (inserts.isEmpty()) return 0;
+        blockRepo.saveAll(blocks);
+        blockRepo.saveAll(inserts);
+        LocalDate dueDate = itemRepo.findById(itemId).map(WorkspaceItem::getDueDate).orElse(null);
+        eventPublisher.publishEvent(new ItemContentChangedEvent(userId, itemId, dueDate));
+        return inserts.size();
+    }
+
+    /**
+     * 저장 요청을 splitOversized와 같은 규칙으로 나눈다. 편집기는 조각을 이어 붙인 한 블록으로 저장하므로, 여기서 다시 나눠야
+     * 기존 조각과 sortOrder가 맞물린다. 나뉜 블록 뒤에 오는 블록의 sortOrder는 늘어난 조각 수만큼 민다.
+     */
+    public List<ContentDtos.BlockPayload> expand(List<ContentDtos.BlockPayload> payloads) {
+        List<ContentDtos.BlockPayload> expanded = new ArrayList<>(payloads.size());
+        int shift = 0;
+        for (ContentDtos.BlockPayload payload : payloads) {
+            int sortOrder = payload.sortOrder() + shift;
+            List<String> chunks = List.of();
+            Map<String, Object> content = null;
+            if (payload.content() != null && payload.content().length() > maxBlockHtmlChars) {
+                content = readPayload(payload.content());
+                if (content != null && content.get("html") instanceof String html) chunks = HtmlChunker.split(html, maxBlockHtmlChars);
+            }
+            if (chunks.size() < 2) {
+                expanded.add(shift == 0 ? payload : new ContentDtos.BlockPayload(payload.id(), sortOrder, payload.type(), payload.content()));
+                continue;
+            }
+            content.put("html", chunks.get(0));
+            expanded.add(new ContentDtos.BlockPayload(payload.id(), sortOrder, payload.type(), writePayload(content)));
+            for (int i = 1; i < chunks.size(); i++) {
+                expanded.add(new ContentDtos.BlockPayload(null, sortOrder + i, payload.type(), writePayload(chunkPayload(chunks.get(i)))));
+            }
+            shift += chunks.size() - 1;
+        }
+        return expanded;
+    }
+
+    /** 첫 블록의 HTML에 그 뒤에 있는 continued 조각을 이어 붙인다. 보드 요약과 같은 기준으로 한 문서를 복원한다. */
+    public String joinedHtml(UUID itemId) {
+        BlockDocument first = blockRepo.findFirstByItemIdOrderBySortOrderAsc(itemId).orElse(null);
+        if (first == null) return "";
+        StringBuilder html = new StringBuilder(htmlOf(first));
+        for (BlockDocument chunk : blockRepo.findContinuationBlocksByItemIds(List.of(itemId))) {
+            if (chunk.getSortOrder() > first.getSortOrder()) html.append(htmlOf(chunk));
+        }
+        return html.toString();
+    }
+
+    public SplitReport splitAllOversized(int limit) {
+        int items = 0;
+        int added = 0;
+        for (UUID itemId : blockRepo.findItemIdsWithOversizedHtml(maxBlockHtmlChars, limit)) {
+            try {
+                Integer split = transactionTemplate.execute(status -> {
+                    WorkspaceItem item = itemRepo.findByIdForUpdate(itemId).orElse(null);
+                    return item == null ? 0 : splitOversized(item.getUserId(), itemId);
+                });
+                if (split != null && split > 0) {
+                    items++;
+                    added += split;
+                }
+            } catch (Exception e) {
+                log.warn("block split failed for item {}: {}", itemId, e.getMessage());
+            }
+        }
+        return new SplitReport(items, added);
+    }
+
+    private String htmlOf(BlockDocument block) {
+        Map<String, Object> payload = block.getContent() == null ? null : readPayload(block.getContent());
+        return payload != null && payload.get("html") instanceof String html ? html : "";
+    }
+
+    private static Map<String, Object> chunkPayload(String html) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("html", html);
+        payload.put(CONTINUED, true);
+        return payload;
+    }
+
+    private Map<String, Object> readPayload(String content) {
+        try {
+            return objectMapper.readValue(content, PAYLOAD);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String writePayload(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("블록 내용을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    public record SplitReport(int items, int blocksAdded) {}
+}
@@ -0,0 +1,155 @@
+package com.acme.schedulemanager.content;
+
+import com.acme.schedulemanager.common.TransactionBatches;
+import com.acme.schedulemanager.domain.entity.BlockRevision;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
+import com.acme.schedulemanager.domain.repo.BlockRevisionRepository;
+import com.acme.schedulemanager.domain.repo.BlockTextView;
+import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
+import com.acme.schedulemanager.workspace.ItemContentChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class BlockRevisionService {
+    private static final int MAX_LIST_LIMIT = 200;
+
+    private final BlockRevisionRepository revisionRepo;
+    private final BlockDocumentRepository blockRepo;
+    private final WorkspaceItemRepository itemRepo;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.revisions.snapshot-interval:20}")
+    private int snapshotInterval;
+
+    public BlockRevisionService(
+            BlockRevisionRepository revisionRepo,
+            BlockDocumentRepository blockRepo,
+            WorkspaceItemRepository itemRepo,
+            ObjectMapper objectMapper
+    ) {
+        this.revisionRepo = revisionRepo;
+        this.blockRepo = blockRepo;
+        this.itemRepo = itemRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onContentChanged(ItemContentChangedEvent event) {
+        TransactionBatches.beforeCommit(this, event.itemId(), event.userId(), (itemId, userId) -> record(userId, itemId));
+    }
+
+    public void record(UUID userId, UUID itemId) {
+        blockRepo.flush();
+        List<String> current = currentLines(itemId);
+        BlockRevision latest = revisionRepo.findTopByItemIdOrderByRevisionDesc(itemId).orElse(null);
+        int revision = latest == null ? 1 : latest.getRevision() + 1;
+        boolean snapshot = (revision - 1) % Math.max(1, snapshotInterval) == 0;
+        String payload;
+        if (latest == null) {
+            payload = String.join("\n", current);
+        } else {
+            ArrayNode delta = RevisionDelta.diff(objectMapper, reconstruct(itemId, latest.getRevision()), current);
+            if (delta == null) return;
+            payload = snapshot ? String.join("\n", current) : delta.toString();
+        }
+        save(userId, itemId, revision, snapshot, payload);
+    }
+
+    /**
+     * 이력이 없는 항목을 고치기 직전에 호출한다. 이력 기능 전부터 있던 본문을 1번 리비전 스냅샷으로 남겨,
+     * 첫 저장으로 덮어쓴 내용도 되돌릴 수 있게 한다. 블록이 없거나 이미 이력이 있으면 아무것도 하지 않는다.
+     */
+    public void recordBaseline(UUID userId, UUID itemId) {
+        if (revisionRepo.existsByItemId(itemId)) return;
+        List<String> current = currentLines(itemId);
+        if (current.isEmpty()) return;
+        save(userId, itemId, 1, true, String.join("\n", current));
+    }
+
+    private void save(UUID userId, UUID itemId, int revision, boolean snapshot, String payload) {
+        BlockRevision row = new BlockRevision();
+        row.setItemId(itemId);
+        row.setUserId(userId);
+        row.setRevision(revision);
+        row.setSnapshot(snapshot);
+        row.setPayload(payload);
+        revisionRepo.save(row);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ContentDtos.RevisionSummary> list(UUID userId, UUID itemId, int limit) {
+        verifyOwner(userId, itemId);
+        int size = Math.max(1, Math.min(limit, MAX_LIST_LIMIT));
+        return revisionRepo.findViews(itemId, Limit.of(size)).stream()
+                .map(v -> new ContentDtos.RevisionSummary(v.revision(), v.snapshot(), v.size(), v.createdAt()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public ContentDtos.RevisionResponse get(UUID userId, UUID itemId, int revision) {
+        verifyOwner(userId, itemId);
+        BlockRevision target = revisionRepo.findByItemIdAndRevision(itemId, revision)
+                .orElseThrow(() -> new EntityNotFoundException("리비전을 찾을 수 없습니다."));
+        List<ContentDtos.BlockPayload> blocks = reconstruct(itemId, revision).stream().map(this::toPayload).toList();
+        return new ContentDtos.RevisionResponse(itemId, target.getRevision(), target.getCreatedAt(), blocks);
+    }
+
+    private List<String> reconstruct(UUID itemId, int revision) {
+        BlockRevision base = revisionRepo.findTopByItemIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(itemId, revision)
+                .orElseThrow(() -> new IllegalStateException("기준 스냅샷이 없습니다: " + itemId));
+        List<String> lines = splitLines(base.getPayload());
+        if (base.getRevision() == revision) return lines;
+        for (BlockRevision delta : revisionRepo.findByItemIdAndRevisionBetweenOrderByRevisionAsc(itemId, base.getRevision() + 1, revision)) {
+            lines = delta.isSnapshot() ? splitLines(delta.getPayload()) : RevisionDelta.apply(lines, readTree(delta.getPayload()));
+        }
+        return lines;
+    }
+
+    private List<String> currentLines(UUID itemId) {
+        List<String> lines = new ArrayList<>();
+        for (BlockTextView block : blockRepo.findTextByItemId(itemId)) {
+            try {
+                lines.add(objectMapper.writeValueAsString(List.of(block.getId().toString(), block.getSortOrder(), block.getType(), block.getContent())));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("블록을 직렬화할 수 없습니다: " + block.getId(), e);
+            }
+        }
+        return lines;
+    }
+
+    private ContentDtos.BlockPayload toPayload(String line) {
+        JsonNode row = readTree(line);
+        return new ContentDtos.BlockPayload(UUID.fromString(row.get(0).asText()), row.get(1).asInt(), row.get(2).asText(), row.get(3).asText());
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리비전 데이터를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static List<String> splitLines(String payload) {
+        return payload.isEmpty() ? new ArrayList<>() : new ArrayList<>(List.of(payload.split("\n", -1)));
+    }
+
+    private void verifyOwner(UUID userId, UUID itemId) {
+        WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("항목을 찾을 수 없습니다."));
+        if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("권한이 없습니다.");
+    }
+}
@@ -1,26 +1,87 @@
 package com.acme.schedulemanager.content;
 
+import com.acme.schedulemanager.common.ApiMediaTypes;
 import com.acme.schedulemanager.security.SecurityUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/content")
 public class ContentController {
     private final ContentService contentService;
+    private final BlockRevisionService revisionService;
+    private final AutosaveService autosaveService;
 
-    public ContentController(ContentService contentService) {
+    public ContentController(ContentService contentService, BlockRevisionService revisionService, AutosaveService autosaveService) {
         this.contentService = contentService;
+        this.revisionService = revisionService;
+        this.autosaveService = autosaveService;
     }
 
     @GetMapping("/{itemId}/blocks")
     public ContentDtos.BlocksResponse load(@PathVariable UUID itemId) {
+        autosaveService.flushPending(SecurityUtils.principal().userId(), itemId);
         return contentService.load(SecurityUtils.principal().userId(), itemId);
     }
 
+    @GetMapping(value = "/{itemId}/blocks", produces = ApiMediaTypes.RAW_CONTENT_JSON_VALUE)
+    public ContentDtos.RawBlocksResponse loadRaw(@PathVariable UUID itemId) {
+        autosaveService.flushPending(SecurityUtils.principal().userId(), itemId);
+        return contentService.loadRaw(SecurityUtils.principal().userId(), itemId);
+    }
+
+    @GetMapping(value = "/{itemId}/blocks", params = "limit")
+    public ContentDtos.BlockPageResponse loadPage(
+            @PathVariable UUID itemId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam int limit
+    ) {
+        autosaveService.flushPending(SecurityUtils.principal().userId(), itemId);
+        return contentService.loadPage(SecurityUtils.principal().userId(), itemId, offset, limit);
+    }
+
+    @GetMapping(value = "/{itemId}/blocks", params = "limit", produces = ApiMediaTypes.RAW_CONTENT_JSON_VALUE)
+    public ContentDtos.RawBlockPageResponse loadRawPage(
+            @PathVariable UUID itemId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam int limit
+    ) {
+        autosaveService.flushPending(SecurityUtils.principal().userId(), itemId);
+        return contentService.loadRawPage(SecurityUtils.principal().userId(), itemId, offset, limit);
+    }
+
     @PutMapping("/{itemId}/blocks")
-    public ContentDtos.BlocksResponse save(@PathVariable UUID itemId, @RequestBody ContentDtos.SaveBlocksRequest request) {
+    public ContentDtos.SaveBlocksResponse save(@PathVariable UUID itemId, @RequestBody ContentDtos.SaveBlocksRequest request) {
+        autosaveService.discard(SecurityUtils.principal().userId(), itemId);
         return contentService.save(SecurityUtils.principal().userId(), itemId, request);
     }
+
+    @PatchMapping("/{itemId}/blocks")
+    public ContentDtos.PatchBlocksResponse patch(@PathVariable UUID itemId, @RequestBody ContentDtos.PatchBlocksRequest request) {
+        autosaveService.flushPending(SecurityUtils.principal().userId(), itemId);
+        return contentService.patch(SecurityUtils.principal().userId(), itemId, request);
+    }
+
+    @PutMapping("/{itemId}/autosave")
+    public ContentDtos.AutosaveResponse autosave(@PathVariable UUID itemId, @RequestBody ContentDtos.SaveBlocksRequest request) {
+        return autosaveService.autosave(SecurityUtils.principal().userId(), itemId, request);
+    }
+
+    @PostMapping("/{itemId}/autosave/flush")
+    public ContentDtos.BlocksResponse flushAutosave(@PathVariable UUID itemId) {
+        autosaveService.flushPending(SecurityUtils.principal().userId(), itemId);
+        return contentService.load(SecurityUtils.principal().userId(), itemId);
+    }
+
+    @GetMapping("/{itemId}/revisions")
+    public List<ContentDtos.RevisionSummary> revisions(@PathVariable UUID itemId, @RequestParam(defaultValue = "50") int limit) {
+        return revisionService.list(SecurityUtils.principal().userId(), itemId, limit);
+    }
+
+    @GetMapping("/{itemId}/revisions/{revision}")
+    public ContentDtos.RevisionResponse revision(@PathVariable UUID itemId, @PathVariable int revision) {
+        return revisionService.get(SecurityUtils.principal().userId(), itemId, revision);
+    }
 }
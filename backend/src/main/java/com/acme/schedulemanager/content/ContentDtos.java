@@ -1,12 +1,25 @@
 package com.acme.schedulemanager.content;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import jakarta.validation.constraints.NotBlank;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public class ContentDtos {
     public record BlockPayload(UUID id, int sortOrder, @NotBlank String type, @NotBlank String content) {}
     public record SaveBlocksRequest(List<BlockPayload> blocks) {}
-    public record BlocksResponse(UUID itemId, List<BlockPayload> blocks) {}
+    public record BlocksResponse(UUID itemId, long version, List<BlockPayload> blocks) {}
+    public record RawBlockPayload(UUID id, int sortOrder, String type, @JsonRawValue String content) {}
+    public record RawBlocksResponse(UUID itemId, long version, List<RawBlockPayload> blocks) {}
+    public record BlockPageResponse(UUID itemId, long version, int offset, int limit, long total, boolean hasMore, List<BlockPayload> blocks) {}
+    public record RawBlockPageResponse(UUID itemId, long version, int offset, int limit, long total, boolean hasMore, List<RawBlockPayload> blocks) {}
+    public record SaveBlocksResponse(UUID itemId, long version, List<BlockPayload> blocks, int inserted, int updated, int deleted, int unchanged) {}
+    public record BlockOperation(@NotBlank String op, UUID id, Integer sortOrder, String type, String content) {}
+    public record PatchBlocksRequest(long baseVersion, List<BlockOperation> operations) {}
+    public record PatchBlocksResponse(UUID itemId, long version, List<UUID> insertedIds, int updated, int deleted) {}
+    public record AutosaveResponse(UUID itemId, long version, boolean buffered, List<BlockPayload> blocks) {}
+    public record RevisionSummary(int revision, boolean snapshot, int size, Instant createdAt) {}
+    public record RevisionResponse(UUID itemId, int revision, Instant createdAt, List<BlockPayload> blocks) {}
 }
@@ -1,48 +1,303 @@
 package com.acme.schedulemanager.content;
 
+import com.acme.schedulemanager.common.ConflictException;
+import com.acme.schedulemanager.common.TransactionBatches;
 import com.acme.schedulemanager.domain.entity.BlockDocument;
 import com.acme.schedulemanager.domain.entity.WorkspaceItem;
 import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
 import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
+import com.acme.schedulemanager.workspace.ItemContentChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ContentService {
+    private static final int MAX_PATCH_OPERATIONS = 500;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final BlockDocumentRepository blockRepo;
     private final WorkspaceItemRepository itemRepo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockChunkService blockChunkService;
+    private final BlockRevisionService revisionService;
+    private final ObjectMapper objectMapper;
 
-    public ContentService(BlockDocumentRepository blockRepo, WorkspaceItemRepository itemRepo) {
+    public ContentService(
+            BlockDocumentRepository blockRepo,
+            WorkspaceItemRepository itemRepo,
+            ApplicationEventPublisher eventPublisher,
+            BlockChunkService blockChunkService,
+            BlockRevisionService revisionService,
+            ObjectMapper objectMapper
+    ) {
         this.blockRepo = blockRepo;
         this.itemRepo = itemRepo;
+        this.eventPublisher = eventPublisher;
+        this.blockChunkService = blockChunkService;
+        this.revisionService = revisionService;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onContentChanged(ItemContentChangedEvent event) {
+        TransactionBatches.beforeCommit(this, event.itemId(), event.userId(), (itemId, userId) -> itemRepo.incrementContentVersion(itemId));
     }
 
     public ContentDtos.BlocksResponse load(UUID userId, UUID itemId) {
         WorkspaceItem item = verifyOwner(userId, itemId);
-        List<ContentDtos.BlockPayload> blocks = blockRepo.findByItemIdOrderBySortOrderAsc(item.getId()).stream()
+        List<ContentDtos.BlockPayload> blocks = blockRepo.findTextByItemId(item.getId()).stream()
                 .map(b -> new ContentDtos.BlockPayload(b.getId(), b.getSortOrder(), b.getType(), b.getContent()))
                 .toList();
-        return new ContentDtos.BlocksResponse(itemId, blocks);
+        return new ContentDtos.BlocksResponse(itemId, item.getContentVersion(), blocks);
     }
 
-    @Transactional
-    public ContentDtos.BlocksResponse save(UUID userId, UUID itemId, ContentDtos.SaveBlocksRequest request) {
+    public ContentDtos.RawBlocksResponse loadRaw(UUID userId, UUID itemId) {
+        WorkspaceItem item = verifyOwner(userId, itemId);
+        List<ContentDtos.RawBlockPayload> blocks = blockRepo.findTextByItemId(item.getId()).stream()
+                .map(b -> new ContentDtos.RawBlockPayload(b.getId(), b.getSortOrder(), b.getType(), b.getContent()))
+                .toList();
+        return new ContentDtos.RawBlocksResponse(itemId, item.getContentVersion(), blocks);
+    }
+
+    public ContentDtos.BlockPageResponse loadPage(UUID userId, UUID itemId, int offset, int limit) {
+        WorkspaceItem item = verifyOwner(userId, itemId);
+        int pageSize = pageSize(offset, limit);
+        List<ContentDtos.BlockPayload> blocks = blockRepo.findTextPageByItemId(item.getId(), offset, pageSize).stream()
+                .map(b -> new ContentDtos.BlockPayload(b.getId(), b.getSortOrder(), b.getType(), b.getContent()))
+                .toList();
+        long total = blockRepo.countByItemId(item.getId());
+        return new ContentDtos.BlockPageResponse(itemId, item.getContentVersion(), offset, pageSize, total, offset + blocks.size() < total, blocks);
+    }
+
+    public ContentDtos.RawBlockPageResponse loadRawPage(UUID userId, UUID itemId, int offset, int limit) {
         WorkspaceItem item = verifyOwner(userId, itemId);
-        blockRepo.deleteByItemId(item.getId());
-        List<ContentDtos.BlockPayload> saved = request.blocks().stream().map(payload -> {
-            BlockDocument b = new BlockDocument();
-            b.setItemId(itemId);
-            b.setSortOrder(payload.sortOrder());
-            b.setType(payload.type());
-            b.setContent(payload.content());
-            blockRepo.save(b);
-            return new ContentDtos.BlockPayload(b.getId(), b.getSortOrder(), b.getType(), b.getContent());
-        }).toList();
-        return new ContentDtos.BlocksResponse(itemId, saved);
+        int pageSize = pageSize(offset, limit);
+        List<ContentDtos.RawBlockPayload> blocks = blockRepo.findTextPageByItemId(item.getId(), offset, pageSize).stream()
+                .map(b -> new ContentDtos.RawBlockPayload(b.getId(), b.getSortOrder(), b.getType(), b.getContent()))
+                .toList();
+        long total = blockRepo.countByItemId(item.getId());
+        return new ContentDtos.RawBlockPageResponse(itemId, item.getContentVersion(), offset, pageSize, total, offset + blocks.size() < total, blocks);
+    }
+
+    @Transactional
+    public ContentDtos.SaveBlocksResponse save(UUID userId, UUID itemId, ContentDtos.SaveBlocksRequest request) {
+        return save(userId, itemId, request, false);
+    }
+
+    @Transactional
+    public ContentDtos.SaveBlocksResponse saveBuffered(UUID userId, UUID itemId, ContentDtos.SaveBlocksRequest request) {
+        return save(userId, itemId, request, true);
+    }
+
+    private ContentDtos.SaveBlocksResponse save(UUID userId, UUID itemId, ContentDtos.SaveBlocksRequest request, boolean buffered) {
+        WorkspaceItem item = lockOwned(userId, itemId);
+        revisionService.recordBaseline(userId, itemId);
+        List<ContentDtos.BlockPayload> payloads = request.blocks() == null ? List.of() : blockChunkService.expand(request.blocks());
+        Map<UUID, BlockDocument> existing = blockRepo.findByItemIdOrderBySortOrderAsc(item.getId()).stream()
+                .collect(Collectors.toMap(BlockDocument::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        List<BlockDocument> matched = matchBlocks(payloads, existing);
+
+        List<BlockDocument> blocks = new ArrayList<>(payloads.size());
+        List<BlockDocument> inserts = new ArrayList<>();
+        int updated = 0;
+        for (int i = 0; i < payloads.size(); i++) {
+            ContentDtos.BlockPayload payload = payloads.get(i);
+            BlockDocument block = matched.get(i);
+            if (block == null) {
+                block = newBlock(itemId, payload.sortOrder(), payload.type(), payload.content());
+                if (buffered && payload.id() != null && !blockRepo.existsById(payload.id())) block.setId(payload.id());
+                inserts.add(block);
+            } else if (applyChanges(block, payload.sortOrder(), payload.type(), payload.content())) {
+                updated++;
+            }
+            blocks.add(block);
+        }
+        if (!existing.isEmpty()) blockRepo.deleteAllByIdInBatch(List.copyOf(existing.keySet()));
+        blockRepo.saveAll(inserts);
+
+        int inserted = inserts.size();
+        int deleted = existing.size();
+        boolean changed = inserted + updated + deleted > 0;
+        if (changed) {
+            eventPublisher.publishEvent(new ItemContentChangedEvent(userId, itemId, item.getDueDate()));
+        } else if (buffered) {
+            itemRepo.incrementContentVersion(itemId);
+        }
+        List<ContentDtos.BlockPayload> saved = new ArrayList<>(blocks.size());
+        for (int i = 0; i < blocks.size(); i++) {
+            ContentDtos.BlockPayload payload = payloads.get(i);
+            saved.add(new ContentDtos.BlockPayload(blocks.get(i).getId(), payload.sortOrder(), payload.type(), payload.content()));
+        }
+        long version = item.getContentVersion() + (changed || buffered ? 1 : 0);
+        return new ContentDtos.SaveBlocksResponse(itemId, version, saved, inserted, updated, deleted, payloads.size() - inserted - updated);
+    }
+
+    /**
+     * 저장 요청의 블록을 기존 블록과 짝짓는다. id가 맞는 블록을 먼저 가져가고, 편집기처럼 id 없이 보낸 블록(또는 모르는 id)은
+     * 남은 기존 블록 중 sortOrder가 같은 블록과 짝짓는다. 짝지은 블록은 existing에서 빠지므로 남은 블록이 삭제 대상이 된다.
+     */
+    private List<BlockDocument> matchBlocks(List<ContentDtos.BlockPayload> payloads, Map<UUID, BlockDocument> existing) {
+        List<BlockDocument> matched = new ArrayList<>(payloads.size());
+        for (ContentDtos.BlockPayload payload : payloads) {
+            matched.add(payload.id() == null ? null : existing.remove(payload.id()));
+        }
+        Map<Integer, BlockDocument> bySortOrder = new HashMap<>();
+        existing.values().forEach(block -> bySortOrder.putIfAbsent(block.getSortOrder(), block));
+        for (int i = 0; i < payloads.size(); i++) {
+            if (matched.get(i) != null) continue;
+            BlockDocument block = bySortOrder.remove(payloads.get(i).sortOrder());
+            if (block == null) continue;
+            existing.remove(block.getId());
+            matched.set(i, block);
+        }
+        return matched;
+    }
+
+    @Transactional
+    public ContentDtos.PatchBlocksResponse patch(UUID userId, UUID itemId, ContentDtos.PatchBlocksRequest request) {
+        WorkspaceItem item = lockOwned(userId, itemId);
+        if (item.getContentVersion() != request.baseVersion()) {
+            throw new ConflictException("문서가 다른 곳에서 변경되었습니다. 최신 내용을 다시 불러오세요.");
+        }
+        List<ContentDtos.BlockOperation> operations = request.operations() == null ? List.of() : request.operations();
+        if (operations.size() > MAX_PATCH_OPERATIONS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_PATCH_OPERATIONS + "개의 작업만 처리할 수 있습니다.");
+        }
+        if (operations.isEmpty()) {
+            return new ContentDtos.PatchBlocksResponse(itemId, item.getContentVersion(), List.of(), 0, 0);
+        }
+        revisionService.recordBaseline(userId, itemId);
+
+        Set<UUID> referenced = operations.stream()
+                .map(ContentDtos.BlockOperation::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, BlockDocument> blocks = referenced.isEmpty() ? new HashMap<>() : blockRepo.findByItemIdAndIdIn(itemId, referenced).stream()
+                .collect(Collectors.toMap(BlockDocument::getId, Function.identity()));
+        List<BlockDocument> inserts = new ArrayList<>();
+        Set<UUID> updated = new HashSet<>();
+        List<BlockDocument> deletes = new ArrayList<>();
+        for (ContentDtos.BlockOperation operation : operations) {
+            String op = operation.op() == null ? "" : operation.op();
+            switch (op) {
+                case "insert" -> {
+                    if (operation.id() != null) throw new IllegalArgumentException("삽입 작업에는 id를 지정할 수 없습니다.");
+                    if (operation.sortOrder() == null || isBlank(operation.type()) || isBlank(operation.content())) {
+                        throw new IllegalArgumentException("삽입 작업에는 sortOrder, type, content가 필요합니다.");
+                    }
+                    inserts.add(newBlock(itemId, operation.sortOrder(), operation.type(), operation.content()));
+                }
+                case "update" -> {
+                    BlockDocument block = target(blocks, operation);
+                    if (applyChanges(block, operation.sortOrder(), blankToNull(operation.type()), blankToNull(operation.content()))) {
+                        updated.add(block.getId());
+                    }
+                }
+                case "move" -> {
+                    BlockDocument block = target(blocks, operation);
+                    if (operation.sortOrder() == null) throw new IllegalArgumentException("이동 작업에는 sortOrder가 필요합니다.");
+                    if (applyChanges(block, operation.sortOrder(), null, null)) updated.add(block.getId());
+                }
+                case "delete" -> {
+                    BlockDocument block = target(blocks, operation);
+                    blocks.remove(block.getId());
+                    updated.remove(block.getId());
+                    deletes.add(block);
+                }
+                default -> throw new IllegalArgumentException("지원하지 않는 작업입니다: " + op);
+            }
+        }
+        blockRepo.deleteAll(deletes);
+        blockRepo.saveAll(inserts);
+        eventPublisher.publishEvent(new ItemContentChangedEvent(userId, itemId, item.getDueDate()));
+        return new ContentDtos.PatchBlocksResponse(
+                itemId,
+                item.getContentVersion() + 1,
+                inserts.stream().map(BlockDocument::getId).toList(),
+                updated.size(),
+                deletes.size()
+        );
+    }
+
+    private BlockDocument target(Map<UUID, BlockDocument> blocks, ContentDtos.BlockOperation operation) {
+        if (operation.id() == null) throw new IllegalArgumentException("블록 id가 필요합니다.");
+        BlockDocument block = blocks.get(operation.id());
+        if (block == null) throw new IllegalArgumentException("블록을 찾을 수 없습니다: " + operation.id());
+        return block;
+    }
+
+    private BlockDocument newBlock(UUID itemId, int sortOrder, String type, String content) {
+        BlockDocument block = new BlockDocument();
+        block.setItemId(itemId);
+        block.setSortOrder(sortOrder);
+        block.setType(type);
+        block.setContent(content);
+        return block;
+    }
+
+    private boolean applyChanges(BlockDocument block, Integer sortOrder, String type, String content) {
+        boolean changed = false;
+        if (sortOrder != null && block.getSortOrder() != sortOrder) {
+            block.setSortOrder(sortOrder);
+            changed = true;
+        }
+        if (type != null && !type.equals(block.getType())) {
+            block.setType(type);
+            changed = true;
+        }
+        if (content != null && !Objects.equals(block.getContentHash(), BlockDocument.hashContent(content))) {
+            boolean unchangedLegacy = block.getContentHash() == null && sameJson(block.getContent(), content);
+            block.setContent(content);
+            if (!unchangedLegacy) changed = true;
+        }
+        return changed;
+    }
+
+    /** 해시가 없던 기존 블록은 jsonb로 정규화된 본문이라 문자열이 달라도 같은 내용일 수 있어 JSON으로 비교한다. */
+    private boolean sameJson(String stored, String content) {
+        if (stored == null) return false;
+        try {
+            return objectMapper.readTree(stored).equals(objectMapper.readTree(content));
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    private WorkspaceItem lockOwned(UUID userId, UUID itemId) {
+        WorkspaceItem item = itemRepo.findByIdForUpdate(itemId).orElseThrow(() -> new EntityNotFoundException("항목을 찾을 수 없습니다."));
+        if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("권한이 없습니다.");
+        return item;
+    }
+
+    private static int pageSize(int offset, int limit) {
+        if (offset < 0) throw new IllegalArgumentException("offset은 0 이상이어야 합니다.");
+        if (limit < 1) throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String blankToNull(String value) {
+        return isBlank(value) ? null : value;
     }
 
     private WorkspaceItem verifyOwner(UUID userId, UUID itemId) {
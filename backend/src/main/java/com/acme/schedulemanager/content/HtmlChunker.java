@@ -0,0 +1,34 @@
+package com.acme.schedulemanager.content;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 병합된 HTML을 섹션 경계({@code <hr /><h3>}) 기준으로 나눈다. 경계 사이를 앞에서부터 채워 조각마다 최대 길이를 넘지 않게 하되,
+ * 한 섹션이 혼자서 최대 길이를 넘으면 그 섹션은 나누지 않는다.
+ */
+final class HtmlChunker {
+    static final String SECTION_BREAK = "<hr /><h3>";
+
+    private HtmlChunker() {}
+
+    static List<String> split(String html, int maxChars) {
+        if (html.length() <= maxChars) return List.of(html);
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        int previous = 0;
+        int cut = html.indexOf(SECTION_BREAK, 1);
+        while (true) {
+            int end = cut < 0 ? html.length() : cut;
+            if (end - start > maxChars && previous > start) {
+                chunks.add(html.substring(start, previous));
+                start = previous;
+            }
+            if (cut < 0) break;
+            previous = cut;
+            cut = html.indexOf(SECTION_BREAK, cut + SECTION_BREAK.length());
+        }
+        chunks.add(html.substring(start));
+        return chunks;
+    }
+}
@@ -0,0 +1,94 @@
+package com.acme.schedulemanager.content;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "app.autosave.store", havingValue = "memory")
+class InMemoryAutosaveStore implements AutosaveStore {
+    private final Map<UUID, Slot> slots = new HashMap<>();
+
+    @Override
+    public synchronized long put(UUID itemId, UUID userId, String payload, long nowMillis, long debounceMillis, long maxDelayMillis) {
+        Slot slot = slots.computeIfAbsent(itemId, id -> new Slot(nowMillis));
+        slot.userId = userId;
+        slot.payload = payload;
+        slot.seq++;
+        slot.due = Math.min(nowMillis + debounceMillis, slot.firstAt + maxDelayMillis);
+        return slot.seq;
+    }
+
+    @Override
+    public synchronized List<UUID> claimDue(long nowMillis, long leaseUntilMillis, int limit) {
+        List<UUID> claimed = new ArrayList<>();
+        for (Map.Entry<UUID, Slot> entry : slots.entrySet()) {
+            if (claimed.size() >= limit) break;
+            Slot slot = entry.getValue();
+            if (Math.max(slot.due, slot.lease) <= nowMillis) {
+                slot.lease = leaseUntilMillis;
+                claimed.add(entry.getKey());
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized Optional<Entry> claim(UUID itemId, long nowMillis, long leaseUntilMillis) {
+        Slot slot = slots.get(itemId);
+        if (slot == null || slot.lease > nowMillis) return Optional.empty();
+        slot.lease = leaseUntilMillis;
+        return Optional.of(slot.toEntry(itemId));
+    }
+
+    @Override
+    public synchronized Optional<Entry> get(UUID itemId) {
+        Slot slot = slots.get(itemId);
+        return slot == null ? Optional.empty() : Optional.of(slot.toEntry(itemId));
+    }
+
+    @Override
+    public synchronized boolean contains(UUID itemId) {
+        return slots.containsKey(itemId);
+    }
+
+    @Override
+    public synchronized boolean complete(UUID itemId, long seq) {
+        Slot slot = slots.get(itemId);
+        if (slot == null) return false;
+        if (slot.seq == seq) {
+            slots.remove(itemId);
+            return true;
+        }
+        slot.lease = 0;
+        return false;
+    }
+
+    @Override
+    public synchronized void discard(UUID itemId) {
+        slots.remove(itemId);
+    }
+
+    private static final class Slot {
+        private final long firstAt;
+        private UUID userId;
+        private String payload;
+        private long seq;
+        private long due;
+        private long lease;
+
+        private Slot(long firstAt) {
+            this.firstAt = firstAt;
+        }
+
+        private Entry toEntry(UUID itemId) {
+            return new Entry(itemId, userId, seq, payload);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.acme.schedulemanager.content;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "app.autosave.store", havingValue = "redis", matchIfMissing = true)
+class RedisAutosaveStore implements AutosaveStore {
+    private static final String DUE_KEY = "autosave:due";
+    private static final String ENTRY_PREFIX = "autosave:item:";
+
+    private static final RedisScript<Long> PUT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[4])
+            local first = tonumber(redis.call('HGET', KEYS[1], 'firstAt') or now)
+            local seq = redis.call('HINCRBY', KEYS[1], 'seq', 1)
+            local due = math.min(now + tonumber(ARGV[5]), first + tonumber(ARGV[6]))
+            redis.call('HSET', KEYS[1], 'userId', ARGV[2], 'payload', ARGV[3], 'firstAt', first, 'due', due)
+            local lease = tonumber(redis.call('HGET', KEYS[1], 'lease') or 0)
+            redis.call('ZADD', KEYS[2], math.max(due, lease), ARGV[1])
+            return seq
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_DUE = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+            for _, id in ipairs(ids) do
+              redis.call('ZADD', KEYS[1], ARGV[2], id)
+              redis.call('HSET', ARGV[4] .. id, 'lease', ARGV[2])
+            end
+            return ids
+            """, List.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {} end
+            if tonumber(redis.call('HGET', KEYS[1], 'lease') or 0) > tonumber(ARGV[2]) then return {} end
+            redis.call('HSET', KEYS[1], 'lease', ARGV[3])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            return redis.call('HMGET', KEYS[1], 'userId', 'seq', 'payload')
+            """, List.class);
+
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'seq') == ARGV[2] then
+              redis.call('DEL', KEYS[1])
+              redis.call('ZREM', KEYS[2], ARGV[1])
+              return 1
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('HDEL', KEYS[1], 'lease')
+              redis.call('ZADD', KEYS[2], redis.call('HGET', KEYS[1], 'due'), ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    RedisAutosaveStore(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public long put(UUID itemId, UUID userId, String payload, long nowMillis, long debounceMillis, long maxDelayMillis) {
+        Long seq = redis.execute(PUT, List.of(entryKey(itemId), DUE_KEY),
+                itemId.toString(), userId.toString(), payload, String.valueOf(nowMillis), String.valueOf(debounceMillis), String.valueOf(maxDelayMillis));
+        return seq == null ? 0 : seq;
+    }
+
+    @Override
+    public List<UUID> claimDue(long nowMillis, long leaseUntilMillis, int limit) {
+        List<?> ids = redis.execute(CLAIM_DUE, List.of(DUE_KEY),
+                String.valueOf(nowMillis), String.valueOf(leaseUntilMillis), String.valueOf(limit), ENTRY_PREFIX);
+        if (ids == null) return List.of();
+        return ids.stream().map(id -> UUID.fromString(id.toString())).toList();
+    }
+
+    @Override
+    public Optional<Entry> claim(UUID itemId, long nowMillis, long leaseUntilMillis) {
+        List<?> fields = redis.execute(CLAIM, List.of(entryKey(itemId), DUE_KEY),
+                itemId.toString(), String.valueOf(nowMillis), String.valueOf(leaseUntilMillis));
+        return toEntry(itemId, fields);
+    }
+
+    @Override
+    public Optional<Entry> get(UUID itemId) {
+        List<?> fields = redis.<String, String>opsForHash().multiGet(entryKey(itemId), List.of("userId", "seq", "payload"));
+        return toEntry(itemId, fields);
+    }
+
+    @Override
+    public boolean contains(UUID itemId) {
+        return Boolean.TRUE.equals(redis.hasKey(entryKey(itemId)));
+    }
+
+    @Override
+    public boolean complete(UUID itemId, long seq) {
+        Long removed = redis.execute(COMPLETE, List.of(entryKey(itemId), DUE_KEY), itemId.toString(), String.valueOf(seq));
+        return removed != null && removed == 1;
+    }
+
+    @Override
+    public void discard(UUID itemId) {
+        redis.delete(entryKey(itemId));
+        redis.opsForZSet().remove(DUE_KEY, itemId.toString());
+    }
+
+    private Optional<Entry> toEntry(UUID itemId, List<?> fields) {
+        if (fields == null || fields.size() < 3 || fields.get(0) == null || fields.get(1) == null || fields.get(2) == null) return Optional.empty();
+        return Optional.of(new Entry(itemId, UUID.fromString(fields.get(0).toString()), Long.parseLong(fields.get(1).toString()), fields.get(2).toString()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.acme.schedulemanager.content;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 블록 한 개를 한 줄로 보는 문서 사이의 델타. 줄은 먼저 내용이 똑같은 이전 줄과, 다음으로 같은 블록 id의 줄과,
+ * 마지막으로 같은 위치의 줄과 짝지어지므로 저장할 때 블록 id가 바뀌어도 전체 복사가 되지 않는다. 작업은 네 가지다.
+ * {@code ["c", from, count]}는 이전 리비전의 줄을 그대로 복사하고,
+ * {@code ["e", from, prefix, suffix, middle]}는 이전 줄의 앞뒤를 남기고 가운데만 바꾸며,
+ * {@code ["k", from, key, prefix, suffix, middle]}는 id가 바뀐 줄에 새 id(key)를 붙이고 나머지를 "e"처럼 바꾸고,
+ * {@code ["i", line]}은 새 줄을 넣는다.
+ */
+final class RevisionDelta {
+    private RevisionDelta() {}
+
+    static ArrayNode diff(ObjectMapper objectMapper, List<String> previous, List<String> current) {
+        if (previous.equals(current)) return null;
+        int[] pairs = pair(previous, current);
+
+        ArrayNode ops = objectMapper.createArrayNode();
+        int copyFrom = 0;
+        int copyCount = 0;
+        for (int i = 0; i < current.size(); i++) {
+            String line = current.get(i);
+            int from = pairs[i];
+            if (from >= 0 && previous.get(from).equals(line)) {
+                if (copyCount > 0 && copyFrom + copyCount == from) {
+                    copyCount++;
+                } else {
+                    copy(ops, copyFrom, copyCount);
+                    copyFrom = from;
+                    copyCount = 1;
+                }
+                continue;
+            }
+            copy(ops, copyFrom, copyCount);
+            copyCount = 0;
+            if (from < 0) {
+                ops.addArray().add("i").add(line);
+            } else {
+                edit(ops, from, previous.get(from), line);
+            }
+        }
+        copy(ops, copyFrom, copyCount);
+        return ops;
+    }
+
+    /** 현재 줄마다 짝지을 이전 줄의 위치를 돌려준다. 짝이 없으면 -1. 이전 줄 하나는 한 번만 짝지어진다. */
+    private static int[] pair(List<String> previous, List<String> current) {
+        int[] pairs = new int[current.size()];
+        Arrays.fill(pairs, -1);
+        boolean[] used = new boolean[previous.size()];
+        Map<String, Deque<Integer>> byLine = new HashMap<>();
+        Map<String, Integer> byKey = new HashMap<>();
+        for (int i = 0; i < previous.size(); i++) {
+            byLine.computeIfAbsent(previous.get(i), line -> new ArrayDeque<>()).add(i);
+            byKey.putIfAbsent(key(previous.get(i)), i);
+        }
+        for (int i = 0; i < current.size(); i++) {
+            Deque<Integer> same = byLine.get(current.get(i));
+            if (same == null || same.isEmpty()) continue;
+            pairs[i] = same.poll();
+            used[pairs[i]] = true;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (pairs[i] >= 0) continue;
+            Integer from = byKey.get(key(current.get(i)));
+            if (from == null || used[from]) from = i < previous.size() && !used[i] ? i : null;
+            if (from == null) continue;
+            pairs[i] = from;
+            used[from] = true;
+        }
+        return pairs;
+    }
+
+    static List<String> apply(List<String> previous, JsonNode ops) {
+        List<String> lines = new ArrayList<>(previous.size());
+        for (JsonNode op : ops) {
+            switch (op.get(0).asText()) {
+                case "c" -> {
+                    int from = op.get(1).asInt();
+                    lines.addAll(previous.subList(from, from + op.get(2).asInt()));
+                }
+                case "e" -> lines.add(change(previous.get(op.get(1).asInt()), op, 2));
+                case "k" -> {
+                    String base = previous.get(op.get(1).asInt());
+                    lines.add(op.get(2).asText() + change(base.substring(key(base).length()), op, 3));
+                }
+                case "i" -> lines.add(op.get(1).asText());
+                default -> throw new IllegalStateException("알 수 없는 리비전 작업입니다: " + op);
+            }
+        }
+        return lines;
+    }
+
+    private static void copy(ArrayNode ops, int from, int count) {
+        if (count > 0) ops.addArray().add("c").add(from).add(count);
+    }
+
+    private static void edit(ArrayNode ops, int from, String base, String line) {
+        String baseKey = key(base);
+        String lineKey = key(line);
+        ArrayNode op = ops.addArray();
+        if (baseKey.equals(lineKey)) {
+            addChange(op.add("e").add(from), base, line);
+        } else {
+            addChange(op.add("k").add(from).add(lineKey), base.substring(baseKey.length()), line.substring(lineKey.length()));
+        }
+    }
+
+    private static void addChange(ArrayNode op, String base, String line) {
+        int max = Math.min(base.length(), line.length());
+        int prefix = 0;
+        while (prefix < max && base.charAt(prefix) == line.charAt(prefix)) prefix++;
+        if (prefix > 0 && Character.isHighSurrogate(base.charAt(prefix - 1))) prefix--;
+        int suffix = 0;
+        while (suffix < max - prefix
+                && base.charAt(base.length() - 1 - suffix) == line.charAt(line.length() - 1 - suffix)) suffix++;
+        if (suffix > 0 && Character.isLowSurrogate(base.charAt(base.length() - suffix))) suffix--;
+        op.add(prefix).add(suffix).add(line.substring(prefix, line.length() - suffix));
+    }
+
+    private static String change(String base, JsonNode op, int at) {
+        int prefix = op.get(at).asInt();
+        int suffix = op.get(at + 1).asInt();
+        return base.substring(0, prefix) + op.get(at + 2).asText() + base.substring(base.length() - suffix);
+    }
+
+    private static String key(String line) {
+        int end = line.indexOf("\",");
+        return end < 0 ? line : line.substring(0, end);
+    }
+}
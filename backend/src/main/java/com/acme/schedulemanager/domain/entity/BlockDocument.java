@@ -2,10 +2,17 @@ package com.acme.schedulemanager.domain.entity;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "blocks")
 public class BlockDocument {
     @Id
@@ -24,6 +31,9 @@ public class BlockDocument {
     @ColumnTransformer(write = "?::jsonb")
     private String content;
 
+    @Column(length = 64)
+    private String contentHash;
+
     @Column(nullable = false)
     private Instant createdAt;
 
@@ -44,6 +54,7 @@ public class BlockDocument {
     }
 
     public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     public UUID getItemId() { return itemId; }
     public void setItemId(UUID itemId) { this.itemId = itemId; }
     public int getSortOrder() { return sortOrder; }
@@ -51,5 +62,19 @@ public class BlockDocument {
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
     public String getContent() { return content; }
-    public void setContent(String content) { this.content = content; }
+    public void setContent(String content) {
+        this.content = content;
+        this.contentHash = hashContent(content);
+    }
+    public String getContentHash() { return contentHash; }
+
+    public static String hashContent(String content) {
+        if (content == null) return null;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -46,6 +46,7 @@ public class DayNote {
     }
 
     public UUID getId() { return id; }
+    public Instant getUpdatedAt() { return updatedAt; }
     public UUID getUserId() { return userId; }
     public void setUserId(UUID userId) { this.userId = userId; }
     public LocalDate getDueDate() { return dueDate; }
@@ -0,0 +1,28 @@
+package com.acme.schedulemanager.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "deleted_items")
+public class DeletedItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID itemId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    public Long getId() { return id; }
+    public UUID getItemId() { return itemId; }
+    public UUID getUserId() { return userId; }
+    public Instant getDeletedAt() { return deletedAt; }
+}
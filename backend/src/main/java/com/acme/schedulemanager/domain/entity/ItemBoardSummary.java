@@ -0,0 +1,59 @@
+package com.acme.schedulemanager.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "board_summaries")
+public class ItemBoardSummary {
+    @Id
+    private UUID itemId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String todayWork;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String issue;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String memo;
+
+    @Column(nullable = false)
+    private int checklistTotal;
+
+    @Column(nullable = false)
+    private int checklistDone;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = Instant.now();
+        if (todayWork == null) todayWork = "";
+        if (issue == null) issue = "";
+        if (memo == null) memo = "";
+    }
+
+    public UUID getItemId() { return itemId; }
+    public void setItemId(UUID itemId) { this.itemId = itemId; }
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+    public String getTodayWork() { return todayWork; }
+    public void setTodayWork(String todayWork) { this.todayWork = todayWork; }
+    public String getIssue() { return issue; }
+    public void setIssue(String issue) { this.issue = issue; }
+    public String getMemo() { return memo; }
+    public void setMemo(String memo) { this.memo = memo; }
+    public int getChecklistTotal() { return checklistTotal; }
+    public void setChecklistTotal(int checklistTotal) { this.checklistTotal = checklistTotal; }
+    public int getChecklistDone() { return checklistDone; }
+    public void setChecklistDone(int checklistDone) { this.checklistDone = checklistDone; }
+    public Instant getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,125 @@
+package com.acme.schedulemanager.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "migration_jobs")
+public class MigrationJob {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false, length = 20)
+    private String phase;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String sourceName;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String spoolPath;
+
+    @Column(nullable = false)
+    private int csvTotal;
+
+    @Column(nullable = false)
+    private int csvDone;
+
+    @Column(nullable = false)
+    private int docsTotal;
+
+    @Column(nullable = false)
+    private int docsDone;
+
+    @Column(nullable = false)
+    private int assetsTotal;
+
+    @Column(nullable = false)
+    private int assetsDone;
+
+    @Column(nullable = false)
+    private int rewritesTotal;
+
+    @Column(nullable = false)
+    private int rewritesDone;
+
+    private UUID rewriteCursor;
+
+    @Column(nullable = false)
+    private int persistedItems;
+
+    @Column(nullable = false)
+    private int persistedFiles;
+
+    @Column(columnDefinition = "text")
+    private String error;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    private Instant finishedAt;
+
+    @PrePersist
+    void onCreate() {
+        if (id == null) id = UUID.randomUUID();
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getPhase() { return phase; }
+    public void setPhase(String phase) { this.phase = phase; }
+    public String getSourceName() { return sourceName; }
+    public void setSourceName(String sourceName) { this.sourceName = sourceName; }
+    public String getSpoolPath() { return spoolPath; }
+    public void setSpoolPath(String spoolPath) { this.spoolPath = spoolPath; }
+    public int getCsvTotal() { return csvTotal; }
+    public void setCsvTotal(int csvTotal) { this.csvTotal = csvTotal; }
+    public int getCsvDone() { return csvDone; }
+    public void setCsvDone(int csvDone) { this.csvDone = csvDone; }
+    public int getDocsTotal() { return docsTotal; }
+    public void setDocsTotal(int docsTotal) { this.docsTotal = docsTotal; }
+    public int getDocsDone() { return docsDone; }
+    public void setDocsDone(int docsDone) { this.docsDone = docsDone; }
+    public int getAssetsTotal() { return assetsTotal; }
+    public void setAssetsTotal(int assetsTotal) { this.assetsTotal = assetsTotal; }
+    public int getAssetsDone() { return assetsDone; }
+    public void setAssetsDone(int assetsDone) { this.assetsDone = assetsDone; }
+    public int getRewritesTotal() { return rewritesTotal; }
+    public void setRewritesTotal(int rewritesTotal) { this.rewritesTotal = rewritesTotal; }
+    public int getRewritesDone() { return rewritesDone; }
+    public void setRewritesDone(int rewritesDone) { this.rewritesDone = rewritesDone; }
+    public UUID getRewriteCursor() { return rewriteCursor; }
+    public void setRewriteCursor(UUID rewriteCursor) { this.rewriteCursor = rewriteCursor; }
+    public int getPersistedItems() { return persistedItems; }
+    public void setPersistedItems(int persistedItems) { this.persistedItems = persistedItems; }
+    public int getPersistedFiles() { return persistedFiles; }
+    public void setPersistedFiles(int persistedFiles) { this.persistedFiles = persistedFiles; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+}
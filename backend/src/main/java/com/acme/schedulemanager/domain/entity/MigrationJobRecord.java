@@ -0,0 +1,39 @@
+package com.acme.schedulemanager.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "migration_job_records")
+public class MigrationJobRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID jobId;
+
+    @Column(nullable = false, length = 16)
+    private String kind;
+
+    private UUID itemId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String name;
+
+    @Column(columnDefinition = "text")
+    private String value;
+
+    public Long getId() { return id; }
+    public UUID getJobId() { return jobId; }
+    public void setJobId(UUID jobId) { this.jobId = jobId; }
+    public String getKind() { return kind; }
+    public void setKind(String kind) { this.kind = kind; }
+    public UUID getItemId() { return itemId; }
+    public void setItemId(UUID itemId) { this.itemId = itemId; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getValue() { return value; }
+    public void setValue(String value) { this.value = value; }
+}
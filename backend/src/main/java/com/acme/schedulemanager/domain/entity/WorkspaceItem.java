@@ -16,6 +16,12 @@ public class WorkspaceItem {
 
     private UUID parentId;
 
+    @Column(nullable = false, columnDefinition = "text")
+    private String path;
+
+    @Transient
+    private String parentPath;
+
     @Column(nullable = false)
     private String title;
 
@@ -27,6 +33,9 @@ public class WorkspaceItem {
 
     private LocalDate dueDate;
 
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long contentVersion;
+
     @Column(nullable = false)
     private Instant updatedAt;
 
@@ -36,6 +45,7 @@ public class WorkspaceItem {
     @PrePersist
     void onCreate() {
         if (id == null) id = UUID.randomUUID();
+        if (path == null) path = (parentPath == null ? "/" : parentPath) + id + "/";
         Instant now = Instant.now();
         createdAt = now;
         updatedAt = now;
@@ -52,7 +62,11 @@ public class WorkspaceItem {
     public UUID getUserId() { return userId; }
     public void setUserId(UUID userId) { this.userId = userId; }
     public UUID getParentId() { return parentId; }
-    public void setParentId(UUID parentId) { this.parentId = parentId; }
+    public String getPath() { return path; }
+    public void setParent(WorkspaceItem parent) {
+        this.parentId = parent == null ? null : parent.getId();
+        this.parentPath = parent == null ? null : parent.getPath();
+    }
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
     public String getStatus() { return status; }
@@ -61,6 +75,7 @@ public class WorkspaceItem {
     public void setTemplateType(String templateType) { this.templateType = templateType; }
     public LocalDate getDueDate() { return dueDate; }
     public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
+    public long getContentVersion() { return contentVersion; }
     public Instant getUpdatedAt() { return updatedAt; }
     public Instant getCreatedAt() { return createdAt; }
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,9 +13,28 @@ import java.util.UUID;
 public interface BlockDocumentRepository extends JpaRepository<BlockDocument, UUID> {
     List<BlockDocument> findByItemIdOrderBySortOrderAsc(UUID itemId);
     Optional<BlockDocument> findFirstByItemIdOrderBySortOrderAsc(UUID itemId);
+    Optional<BlockDocument> findFirstByItemIdOrderBySortOrderDesc(UUID itemId);
     long countByItemId(UUID itemId);
-    void deleteByItemId(UUID itemId);
+    List<BlockDocument> findByItemIdAndIdIn(UUID itemId, Collection<UUID> ids);
+
+    @Query(value = "select distinct on (b.item_id) b.* from blocks b where b.item_id in (:itemIds) order by b.item_id, b.sort_order asc", nativeQuery = true)
+    List<BlockDocument> findFirstBlocksByItemIds(@Param("itemIds") Collection<UUID> itemIds);
+
+    @Query(value = "select b.* from blocks b where b.item_id in (:itemIds) and (b.content ->> 'continued') = 'true' "
+            + "order by b.item_id, b.sort_order asc", nativeQuery = true)
+    List<BlockDocument> findContinuationBlocksByItemIds(@Param("itemIds") Collection<UUID> itemIds);
+
+    @Query(value = "select b.id as id, b.sort_order as sortOrder, b.type as type, b.content::text as content "
+            + "from blocks b where b.item_id = :itemId order by b.sort_order asc, b.id asc", nativeQuery = true)
+    List<BlockTextView> findTextByItemId(@Param("itemId") UUID itemId);
 
-    @Query(value = "select distinct b.item_id from blocks b where lower(cast(b.content as text)) like lower(concat('%', :keyword, '%'))", nativeQuery = true)
-    List<UUID> searchItemIdsByKeyword(@Param("keyword") String keyword);
+    @Query(value = "select b.id as id, b.sort_order as sortOrder, b.type as type, b.content::text as content "
+            + "from blocks b where b.item_id = :itemId order by b.sort_order asc, b.id asc offset :offset limit :limit", nativeQuery = true)
+    List<BlockTextView> findTextPageByItemId(@Param("itemId") UUID itemId, @Param("offset") int offset, @Param("limit") int limit);
+
+    @Query(value = "select b.item_id from blocks b where char_length(b.content ->> 'html') > :maxChars "
+            + "group by b.item_id order by b.item_id limit :limit", nativeQuery = true)
+    List<UUID> findItemIdsWithOversizedHtml(@Param("maxChars") int maxChars, @Param("limit") int limit);
+
+    void deleteByItemId(UUID itemId);
 }
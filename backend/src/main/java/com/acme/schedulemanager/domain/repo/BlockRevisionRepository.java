@@ -0,0 +1,23 @@
+package com.acme.schedulemanager.domain.repo;
+
+import com.acme.schedulemanager.domain.entity.BlockRevision;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BlockRevisionRepository extends JpaRepository<BlockRevision, Long> {
+    Optional<BlockRevision> findByItemIdAndRevision(UUID itemId, int revision);
+    Optional<BlockRevision> findTopByItemIdOrderByRevisionDesc(UUID itemId);
+    boolean existsByItemId(UUID itemId);
+    Optional<BlockRevision> findTopByItemIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(UUID itemId, int revision);
+    List<BlockRevision> findByItemIdAndRevisionBetweenOrderByRevisionAsc(UUID itemId, int from, int to);
+
+    @Query("select new com.acme.schedulemanager.domain.repo.BlockRevisionView(r.revision, r.snapshot, length(r.payload), r.createdAt) "
+            + "from BlockRevision r where r.itemId = :itemId order by r.revision desc")
+    List<BlockRevisionView> findViews(@Param("itemId") UUID itemId, Limit limit);
+}
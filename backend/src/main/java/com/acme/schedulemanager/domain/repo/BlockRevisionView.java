@@ -0,0 +1,5 @@
+package com.acme.schedulemanager.domain.repo;
+
+import java.time.Instant;
+
+public record BlockRevisionView(int revision, boolean snapshot, int size, Instant createdAt) {}
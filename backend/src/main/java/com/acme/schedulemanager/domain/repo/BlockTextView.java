@@ -0,0 +1,10 @@
+package com.acme.schedulemanager.domain.repo;
+
+import java.util.UUID;
+
+public interface BlockTextView {
+    UUID getId();
+    int getSortOrder();
+    String getType();
+    String getContent();
+}
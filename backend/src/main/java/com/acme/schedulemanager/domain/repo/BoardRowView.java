@@ -0,0 +1,7 @@
+package com.acme.schedulemanager.domain.repo;
+
+import com.acme.schedulemanager.domain.entity.DayNote;
+import com.acme.schedulemanager.domain.entity.ItemBoardSummary;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+
+public record BoardRowView(WorkspaceItem item, ItemBoardSummary summary, DayNote dayNote) {}
@@ -0,0 +1,5 @@
+package com.acme.schedulemanager.domain.repo;
+
+import java.time.LocalDate;
+
+public record CalendarDayView(LocalDate dueDate, String status, long itemCount, long checklistTotal, long checklistDone) {}
@@ -1,12 +1,23 @@
 package com.acme.schedulemanager.domain.repo;
 
 import com.acme.schedulemanager.domain.entity.DayNote;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface DayNoteRepository extends JpaRepository<DayNote, UUID> {
+    List<DayNote> findByUserId(UUID userId);
     Optional<DayNote> findByUserIdAndDueDate(UUID userId, LocalDate dueDate);
+    List<DayNote> findByUserIdAndDueDateBetween(UUID userId, LocalDate from, LocalDate to);
+
+    @Query("select n from DayNote n where n.userId = :userId "
+            + "and (n.updatedAt > :at or (n.updatedAt = :at and n.id > :afterId)) order by n.updatedAt asc, n.id asc")
+    List<DayNote> findChangesAfter(@Param("userId") UUID userId, @Param("at") Instant at, @Param("afterId") UUID afterId, Limit limit);
 }
@@ -0,0 +1,27 @@
+package com.acme.schedulemanager.domain.repo;
+
+import com.acme.schedulemanager.domain.entity.DeletedItem;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface DeletedItemRepository extends JpaRepository<DeletedItem, Long> {
+    @Query("select d from DeletedItem d where d.userId = :userId "
+            + "and (d.deletedAt > :at or (d.deletedAt = :at and d.id > :afterId)) order by d.deletedAt asc, d.id asc")
+    List<DeletedItem> findChangesAfter(@Param("userId") UUID userId, @Param("at") Instant at, @Param("afterId") long afterId, Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into deleted_items(item_id, user_id, deleted_at) "
+            + "select id, user_id, now() from workspace_items where user_id = :userId and path like :prefix || '%'", nativeQuery = true)
+    int recordSubtree(@Param("userId") UUID userId, @Param("prefix") String prefix);
+
+    @Modifying
+    @Query("delete from DeletedItem d where d.deletedAt < :before")
+    int purgeBefore(@Param("before") Instant before);
+}
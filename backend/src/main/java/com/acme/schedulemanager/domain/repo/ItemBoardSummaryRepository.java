@@ -0,0 +1,26 @@
+package com.acme.schedulemanager.domain.repo;
+
+import com.acme.schedulemanager.domain.entity.ItemBoardSummary;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface ItemBoardSummaryRepository extends JpaRepository<ItemBoardSummary, UUID> {
+    List<ItemBoardSummary> findByItemIdGreaterThanOrderByItemIdAsc(UUID after, Limit limit);
+
+    @Query("select s from ItemBoardSummary s where s.userId = :userId "
+            + "and (s.updatedAt > :at or (s.updatedAt = :at and s.itemId > :afterId)) order by s.updatedAt asc, s.itemId asc")
+    List<ItemBoardSummary> findChangesAfter(@Param("userId") UUID userId, @Param("at") Instant at, @Param("afterId") UUID afterId, Limit limit);
+
+    @Query("select i from WorkspaceItem i where i.id > :after and not exists (select 1 from ItemBoardSummary s where s.itemId = i.id) order by i.id asc")
+    List<WorkspaceItem> findItemsWithoutSummary(@Param("after") UUID after, Limit limit);
+
+    @Query("select count(i) from WorkspaceItem i where not exists (select 1 from ItemBoardSummary s where s.itemId = i.id)")
+    long countItemsWithoutSummary();
+}
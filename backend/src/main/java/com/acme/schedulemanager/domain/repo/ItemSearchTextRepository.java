@@ -0,0 +1,18 @@
+package com.acme.schedulemanager.domain.repo;
+
+import com.acme.schedulemanager.domain.entity.ItemSearchText;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ItemSearchTextRepository extends JpaRepository<ItemSearchText, UUID> {
+    List<ItemSearchText> findByUserId(UUID userId);
+
+    @Query("select i from WorkspaceItem i where i.id > :after and not exists (select 1 from ItemSearchText t where t.itemId = i.id) order by i.id asc")
+    List<WorkspaceItem> findItemsWithoutSearchText(@Param("after") UUID after, Limit limit);
+}
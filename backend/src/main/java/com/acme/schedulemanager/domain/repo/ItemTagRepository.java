@@ -3,11 +3,33 @@ package com.acme.schedulemanager.domain.repo;
 import com.acme.schedulemanager.domain.entity.ItemTag;
 import com.acme.schedulemanager.domain.entity.ItemTagId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface ItemTagRepository extends JpaRepository<ItemTag, ItemTagId> {
     List<ItemTag> findByItemId(UUID itemId);
     void deleteByItemId(UUID itemId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "insert into item_tags(item_id, tag_id, created_at) "
+            + "select :itemId, t.id, now() from tags t where t.user_id = :userId and t.id in (:tagIds) "
+            + "on conflict do nothing", nativeQuery = true)
+    int insertOwnedTags(@Param("userId") UUID userId, @Param("itemId") UUID itemId, @Param("tagIds") Collection<UUID> tagIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "delete from item_tags where item_id = :itemId and tag_id in (:tagIds)", nativeQuery = true)
+    int deleteTags(@Param("itemId") UUID itemId, @Param("tagIds") Collection<UUID> tagIds);
+
+    @Query(value = "select i.id from workspace_items i where i.user_id = :userId and exists ("
+            + "select 1 from item_tags it where it.item_id = i.id and it.tag_id in (:tagIds))", nativeQuery = true)
+    List<UUID> findItemIdsWithAnyTag(@Param("userId") UUID userId, @Param("tagIds") Collection<UUID> tagIds);
+
+    @Query(value = "select i.id from workspace_items i where i.user_id = :userId and i.id in ("
+            + "select it.item_id from item_tags it where it.tag_id in (:tagIds) group by it.item_id having count(*) = :tagCount)", nativeQuery = true)
+    List<UUID> findItemIdsWithAllTags(@Param("userId") UUID userId, @Param("tagIds") Collection<UUID> tagIds, @Param("tagCount") long tagCount);
 }
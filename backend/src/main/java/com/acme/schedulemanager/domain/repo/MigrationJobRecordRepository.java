@@ -0,0 +1,12 @@
+package com.acme.schedulemanager.domain.repo;
+
+import com.acme.schedulemanager.domain.entity.MigrationJobRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface MigrationJobRecordRepository extends JpaRepository<MigrationJobRecord, Long> {
+    List<MigrationJobRecord> findByJobIdAndKindOrderByIdAsc(UUID jobId, String kind);
+    long countByJobIdAndKind(UUID jobId, String kind);
+}
@@ -0,0 +1,45 @@
+package com.acme.schedulemanager.domain.repo;
+
+import com.acme.schedulemanager.domain.entity.MigrationJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MigrationJobRepository extends JpaRepository<MigrationJob, UUID> {
+    List<MigrationJob> findByUserIdOrderByCreatedAtDesc(UUID userId, Limit limit);
+    boolean existsByUserIdAndStatusIn(UUID userId, Collection<String> statuses);
+    List<MigrationJob> findByStatusAndUpdatedAtBefore(String status, Instant before);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from MigrationJob j where j.id = :id")
+    Optional<MigrationJob> findByIdForUpdate(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("update MigrationJob j set j.status = :to, j.error = null, j.finishedAt = null, j.updatedAt = :now "
+            + "where j.id = :id and j.status = :from")
+    int transition(@Param("id") UUID id, @Param("from") String from, @Param("to") String to, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update migration_jobs set status = 'FAILED', error = :error, finished_at = :now, updated_at = :now "
+            + "where id in (select id from migration_jobs where status in (:statuses) and updated_at < :before for update skip locked)",
+            nativeQuery = true)
+    int failStale(@Param("statuses") Collection<String> statuses, @Param("before") Instant before, @Param("error") String error, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("update MigrationJob j set j.status = 'EXPIRED', j.updatedAt = :now where j.id = :id and j.status = 'FAILED'")
+    int expire(@Param("id") UUID id, @Param("now") Instant now);
+}
@@ -0,0 +1,5 @@
+package com.acme.schedulemanager.domain.repo;
+
+import java.util.UUID;
+
+public record TagCountView(UUID id, String name, long count) {}
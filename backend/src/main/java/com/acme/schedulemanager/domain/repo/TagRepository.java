@@ -2,6 +2,8 @@ package com.acme.schedulemanager.domain.repo;
 
 import com.acme.schedulemanager.domain.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -9,4 +11,9 @@ import java.util.UUID;
 public interface TagRepository extends JpaRepository<Tag, UUID> {
     List<Tag> findByUserIdOrderByNameAsc(UUID userId);
     boolean existsByUserIdAndName(UUID userId, String name);
+
+    @Query("select new com.acme.schedulemanager.domain.repo.TagCountView(t.id, t.name, count(it.itemId)) from Tag t "
+            + "left join ItemTag it on it.tagId = t.id "
+            + "where t.userId = :userId group by t.id, t.name order by t.name asc")
+    List<TagCountView> countItemsByTag(@Param("userId") UUID userId);
 }
@@ -0,0 +1,5 @@
+package com.acme.schedulemanager.domain.repo;
+
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+
+public record TreeNodeView(WorkspaceItem item, long childCount) {}
@@ -1,16 +1,100 @@
 package com.acme.schedulemanager.domain.repo;
 
 import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface WorkspaceItemRepository extends JpaRepository<WorkspaceItem, UUID> {
     List<WorkspaceItem> findByUserIdOrderByUpdatedAtDesc(UUID userId);
-    List<WorkspaceItem> findByUserIdAndTitleContainingIgnoreCaseOrderByUpdatedAtDesc(UUID userId, String keyword);
-    List<WorkspaceItem> findByUserIdAndDueDateAndTitleContainingIgnoreCaseOrderByUpdatedAtDesc(UUID userId, LocalDate dueDate, String keyword);
+    List<WorkspaceItem> findTop10ByUserIdOrderByUpdatedAtDescIdDesc(UUID userId);
     List<WorkspaceItem> findByUserIdAndDueDateOrderByUpdatedAtDesc(UUID userId, LocalDate dueDate);
     List<WorkspaceItem> findByUserIdAndDueDateBetweenOrderByDueDateDescUpdatedAtDesc(UUID userId, LocalDate from, LocalDate to);
+    boolean existsByParentId(UUID parentId);
+    boolean existsByUserIdAndParentIdIn(UUID userId, Collection<UUID> parentIds);
+    List<WorkspaceItem> findByUserIdAndIdIn(UUID userId, Collection<UUID> ids);
+    long countByUserId(UUID userId);
+
+    @Query("select i from WorkspaceItem i where i.userId = :userId "
+            + "and (i.updatedAt > :at or (i.updatedAt = :at and i.id > :afterId)) order by i.updatedAt asc, i.id asc")
+    List<WorkspaceItem> findChangesAfter(@Param("userId") UUID userId, @Param("at") Instant at, @Param("afterId") UUID afterId, Limit limit);
+
+    @Query("select i.id from WorkspaceItem i where i.userId = :userId and i.id > :after order by i.id")
+    List<UUID> findIdsByUserIdAfter(@Param("userId") UUID userId, @Param("after") UUID after, Limit limit);
+
+    @Query(value = "select * from workspace_items where user_id = :userId order by updated_at desc, id desc limit :limit", nativeQuery = true)
+    List<WorkspaceItem> findFirstPage(@Param("userId") UUID userId, @Param("limit") int limit);
+
+    @Query(value = "select * from workspace_items where user_id = :userId and (updated_at, id) < (:updatedAt, :id) order by updated_at desc, id desc limit :limit", nativeQuery = true)
+    List<WorkspaceItem> findPageAfter(@Param("userId") UUID userId, @Param("updatedAt") Instant updatedAt, @Param("id") UUID id, @Param("limit") int limit);
+
+    @Query(value = "select i.* from workspace_items i where i.user_id = :userId and i.id in ("
+            + "select w.id from workspace_items w where w.user_id = :userId and w.title ilike :pattern "
+            + "union select t.item_id from item_search_texts t where t.user_id = :userId and t.body ilike :pattern) "
+            + "order by i.due_date desc nulls last, i.updated_at desc limit :limit", nativeQuery = true)
+    List<WorkspaceItem> searchByKeyword(@Param("userId") UUID userId, @Param("pattern") String pattern, @Param("limit") int limit);
+
+    @Query(value = "select i.* from workspace_items i where i.user_id = :userId and i.due_date = :dueDate and i.id in ("
+            + "select w.id from workspace_items w where w.user_id = :userId and w.title ilike :pattern "
+            + "union select t.item_id from item_search_texts t where t.user_id = :userId and t.body ilike :pattern) "
+            + "order by i.updated_at desc limit :limit", nativeQuery = true)
+    List<WorkspaceItem> searchByKeywordAndDueDate(@Param("userId") UUID userId, @Param("dueDate") LocalDate dueDate, @Param("pattern") String pattern, @Param("limit") int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from WorkspaceItem i where i.id = :id")
+    Optional<WorkspaceItem> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("select i.contentVersion from WorkspaceItem i where i.id = :id")
+    Optional<Long> findContentVersion(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("update WorkspaceItem i set i.contentVersion = i.contentVersion + 1 where i.id = :id")
+    int incrementContentVersion(@Param("id") UUID id);
+
+    @Query("select new com.acme.schedulemanager.domain.repo.TreeNodeView(i, (select count(c) from WorkspaceItem c where c.userId = i.userId and c.parentId = i.id)) "
+            + "from WorkspaceItem i where i.userId = :userId and i.parentId = :parentId order by i.updatedAt desc, i.id desc")
+    List<TreeNodeView> findChildNodes(@Param("userId") UUID userId, @Param("parentId") UUID parentId);
+
+    @Query("select new com.acme.schedulemanager.domain.repo.TreeNodeView(i, (select count(c) from WorkspaceItem c where c.userId = i.userId and c.parentId = i.id)) "
+            + "from WorkspaceItem i where i.userId = :userId and i.parentId is null order by i.updatedAt desc, i.id desc")
+    List<TreeNodeView> findRootNodes(@Param("userId") UUID userId);
+
+    @Query(value = "select * from workspace_items where user_id = :userId and path like :prefix || '%' order by path", nativeQuery = true)
+    List<WorkspaceItem> findSubtree(@Param("userId") UUID userId, @Param("prefix") String prefix);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "update workspace_items set path = :newPrefix || substring(path from char_length(:oldPrefix) + 1) "
+            + "where user_id = :userId and path like :oldPrefix || '%'", nativeQuery = true)
+    int movePaths(@Param("userId") UUID userId, @Param("oldPrefix") String oldPrefix, @Param("newPrefix") String newPrefix);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update WorkspaceItem i set i.parentId = :parentId, i.updatedAt = :updatedAt where i.id = :id")
+    int updateParent(@Param("id") UUID id, @Param("parentId") UUID parentId, @Param("updatedAt") Instant updatedAt);
+
+    @Query("select new com.acme.schedulemanager.domain.repo.CalendarDayView(i.dueDate, i.status, count(i), "
+            + "coalesce(sum(s.checklistTotal), 0), coalesce(sum(s.checklistDone), 0)) from WorkspaceItem i "
+            + "left join ItemBoardSummary s on s.itemId = i.id "
+            + "where i.userId = :userId and i.dueDate between :from and :to "
+            + "group by i.dueDate, i.status order by i.dueDate asc")
+    List<CalendarDayView> aggregateByDueDate(@Param("userId") UUID userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new com.acme.schedulemanager.domain.repo.BoardRowView(i, s, n) from WorkspaceItem i "
+            + "left join ItemBoardSummary s on s.itemId = i.id "
+            + "left join DayNote n on n.userId = i.userId and n.dueDate = i.dueDate "
+            + "where i.userId = :userId and i.dueDate between :from and :to "
+            + "order by i.dueDate desc, i.updatedAt desc")
+    List<BoardRowView> findBoardRows(@Param("userId") UUID userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
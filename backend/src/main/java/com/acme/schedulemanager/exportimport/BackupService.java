@@ -7,10 +7,13 @@ import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
 import com.acme.schedulemanager.domain.repo.FileAssetRepository;
 import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
 import com.acme.schedulemanager.files.StorageService;
+import com.acme.schedulemanager.workspace.ItemContentChangedEvent;
+import com.acme.schedulemanager.workspace.WorkspaceBulkChangedEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,13 +33,15 @@ public class BackupService {
     private final FileAssetRepository fileRepo;
     private final ObjectMapper objectMapper;
     private final StorageService storageService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BackupService(WorkspaceItemRepository itemRepo, BlockDocumentRepository blockRepo, FileAssetRepository fileRepo, ObjectMapper objectMapper, StorageService storageService) {
+    public BackupService(WorkspaceItemRepository itemRepo, BlockDocumentRepository blockRepo, FileAssetRepository fileRepo, ObjectMapper objectMapper, StorageService storageService, ApplicationEventPublisher eventPublisher) {
         this.itemRepo = itemRepo;
         this.blockRepo = blockRepo;
         this.fileRepo = fileRepo;
         this.objectMapper = objectMapper;
         this.storageService = storageService;
+        this.eventPublisher = eventPublisher;
     }
 
     public void exportAll(UUID userId, OutputStream outputStream) throws IOException {
@@ -118,6 +123,7 @@ public class BackupService {
                                 block.setContent(objectMapper.writeValueAsString(b.getOrDefault("content", Map.of("text", ""))));
                                 blockRepo.save(block);
                             }
+                            eventPublisher.publishEvent(new ItemContentChangedEvent(userId, item.getId(), item.getDueDate()));
                         } catch (Exception e) {
                             errors.add("항목 복원 실패: " + e.getMessage());
                         }
@@ -127,6 +133,7 @@ public class BackupService {
         } catch (Exception e) {
             errors.add("ZIP 파싱 실패: " + e.getMessage());
         }
+        eventPublisher.publishEvent(new WorkspaceBulkChangedEvent(userId));
         return new BackupImportReport(importedItems, errors);
     }
 
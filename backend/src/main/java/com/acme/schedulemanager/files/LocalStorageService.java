@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Set;
@@ -37,8 +38,8 @@ public class LocalStorageService implements StorageService {
     public String store(MultipartFile file) {
         if (file.isEmpty()) throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
         String original = file.getOriginalFilename() == null ? "file" : file.getOriginalFilename();
-        try {
-            return store(original, file.getContentType(), file.getBytes());
+        try (InputStream content = file.getInputStream()) {
+            return store(original, file.getContentType(), content);
         } catch (IOException e) {
             throw new IllegalArgumentException("파일 저장 중 오류가 발생했습니다.");
         }
@@ -47,19 +48,26 @@ public class LocalStorageService implements StorageService {
     @Override
     public String store(String originalName, String mimeType, byte[] bytes) {
         if (bytes == null || bytes.length == 0) throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
-        if (!ALLOWED_MIME.contains(mimeType)) throw new IllegalArgumentException("허용되지 않은 MIME 타입입니다.");
-
-        String original = originalName == null ? "file" : originalName;
-        String ext = original.contains(".") ? original.substring(original.lastIndexOf('.') + 1).toLowerCase() : "";
-        if (!ALLOWED_EXT.contains(ext)) throw new IllegalArgumentException("허용되지 않은 확장자입니다.");
-
-        String storedName = UUID.randomUUID() + "." + ext;
-        Path target = baseDir.resolve(storedName).normalize();
-        if (!target.startsWith(baseDir)) throw new IllegalArgumentException("잘못된 경로입니다.");
+        Path target = newTarget(originalName, mimeType);
         try {
             Files.write(target, bytes);
-            return storedName;
+            return target.getFileName().toString();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("파일 저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    @Override
+    public String store(String originalName, String mimeType, InputStream content) {
+        Path target = newTarget(originalName, mimeType);
+        try {
+            if (Files.copy(content, target) == 0) {
+                Files.deleteIfExists(target);
+                throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+            }
+            return target.getFileName().toString();
         } catch (IOException e) {
+            deleteQuietly(target);
             throw new IllegalArgumentException("파일 저장 중 오류가 발생했습니다.");
         }
     }
@@ -70,4 +78,24 @@ public class LocalStorageService implements StorageService {
         if (!target.startsWith(baseDir)) throw new IllegalArgumentException("잘못된 경로입니다.");
         return new FileSystemResource(target);
     }
+
+    private Path newTarget(String originalName, String mimeType) {
+        if (!ALLOWED_MIME.contains(mimeType)) throw new IllegalArgumentException("허용되지 않은 MIME 타입입니다.");
+
+        String original = originalName == null ? "file" : originalName;
+        String ext = original.contains(".") ? original.substring(original.lastIndexOf('.') + 1).toLowerCase() : "";
+        if (!ALLOWED_EXT.contains(ext)) throw new IllegalArgumentException("허용되지 않은 확장자입니다.");
+
+        String storedName = UUID.randomUUID() + "." + ext;
+        Path target = baseDir.resolve(storedName).normalize();
+        if (!target.startsWith(baseDir)) throw new IllegalArgumentException("잘못된 경로입니다.");
+        return target;
+    }
+
+    private void deleteQuietly(Path target) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException ignored) {
+        }
+    }
 }
@@ -3,8 +3,11 @@ package com.acme.schedulemanager.files;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 public interface StorageService {
     String store(MultipartFile file);
     String store(String originalName, String mimeType, byte[] bytes);
+    String store(String originalName, String mimeType, InputStream content);
     Resource load(String storedName);
 }
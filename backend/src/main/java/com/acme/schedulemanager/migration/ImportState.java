@@ -0,0 +1,28 @@
+package com.acme.schedulemanager.migration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 가져오기 한 건 동안 문서 사이에 이어지는 경로·첨부 매핑과 단계별 보고 항목.
+ * {@link #detected}, {@link #failures}, {@link #mappings}는 단계가 커밋될 때 작업 기록으로 옮겨진 뒤 비워지며,
+ * 재개 시에는 기록된 매핑으로 경로·첨부 맵을 다시 채운다.
+ */
+final class ImportState {
+    static final String PATH = "PATH";
+    static final String ASSET = "ASSET";
+
+    final Map<String, UUID> itemPathMap = new HashMap<>();
+    final Map<UUID, Map<String, String>> itemAssetRewrites = new HashMap<>();
+    final Map<String, String> globalAssetRewrites = new HashMap<>();
+    final List<String> detected = new ArrayList<>();
+    final List<String> failures = new ArrayList<>();
+    final List<Mapping> mappings = new ArrayList<>();
+    int persistedItems;
+    int persistedFiles;
+
+    record Mapping(String kind, UUID itemId, String path, String url) {}
+}
@@ -1,20 +1,49 @@
 package com.acme.schedulemanager.migration;
 
 import com.acme.schedulemanager.security.SecurityUtils;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/migration")
 public class MigrationController {
-    private final MigrationService migrationService;
+    private final MigrationJobService migrationJobService;
 
-    public MigrationController(MigrationService migrationService) {
-        this.migrationService = migrationService;
+    public MigrationController(MigrationJobService migrationJobService) {
+        this.migrationJobService = migrationJobService;
     }
 
     @PostMapping("/import")
     public MigrationService.MigrationReport importZip(@RequestParam("file") MultipartFile file) {
-        return migrationService.importZip(SecurityUtils.principal().userId(), file);
+        return migrationJobService.importNow(SecurityUtils.principal().userId(), file);
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<MigrationDtos.JobResponse> startJob(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.accepted().body(migrationJobService.start(SecurityUtils.principal().userId(), file));
+    }
+
+    @GetMapping("/jobs")
+    public List<MigrationDtos.JobResponse> jobs() {
+        return migrationJobService.list(SecurityUtils.principal().userId());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public MigrationDtos.JobResponse job(@PathVariable UUID jobId) {
+        return migrationJobService.get(SecurityUtils.principal().userId(), jobId);
+    }
+
+    @GetMapping("/jobs/{jobId}/report")
+    public MigrationService.MigrationReport report(@PathVariable UUID jobId) {
+        return migrationJobService.report(SecurityUtils.principal().userId(), jobId);
+    }
+
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<MigrationDtos.JobResponse> resume(@PathVariable UUID jobId) {
+        return ResponseEntity.accepted().body(migrationJobService.resume(SecurityUtils.principal().userId(), jobId));
     }
 }
@@ -0,0 +1,25 @@
+package com.acme.schedulemanager.migration;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class MigrationDtos {
+    public record PhaseProgress(int done, int total) {}
+    public record JobResponse(
+            UUID id,
+            String status,
+            String phase,
+            String sourceName,
+            PhaseProgress csv,
+            PhaseProgress docs,
+            PhaseProgress assets,
+            PhaseProgress rewrites,
+            int persistedItems,
+            int persistedFiles,
+            long failures,
+            String error,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant finishedAt
+    ) {}
+}
@@ -0,0 +1,431 @@
+package com.acme.schedulemanager.migration;
+
+import com.acme.schedulemanager.common.ConflictException;
+import com.acme.schedulemanager.domain.entity.MigrationJob;
+import com.acme.schedulemanager.domain.entity.MigrationJobRecord;
+import com.acme.schedulemanager.domain.repo.MigrationJobRecordRepository;
+import com.acme.schedulemanager.domain.repo.MigrationJobRepository;
+import com.acme.schedulemanager.workspace.WorkspaceBulkChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Service
+public class MigrationJobService implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(MigrationJobService.class);
+    private static final String QUEUED = "QUEUED";
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+    private static final List<String> ACTIVE = List.of(QUEUED, RUNNING);
+    private static final String PREPARE = "prepare";
+    private static final String CSV = "csv";
+    private static final String DOCS = "docs";
+    private static final String ASSETS = "assets";
+    private static final String REWRITES = "rewrites";
+    private static final String DONE = "done";
+    private static final String DETECTED = "DETECTED";
+    private static final String FAILURE = "FAILURE";
+    private static final int REWRITE_BATCH = 100;
+    private static final int LIST_LIMIT = 20;
+    private static final String ALREADY_RUNNING = "이미 진행 중인 가져오기 작업이 있습니다.";
+
+    private final MigrationJobRepository jobRepo;
+    private final MigrationJobRecordRepository recordRepo;
+    private final MigrationService migrationService;
+    private final ParseStage parseStage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private volatile boolean running;
+
+    @Value("${app.migration.spool-dir:}")
+    private String spoolDir;
+
+    @Value("${app.migration.max-entry-bytes:67108864}")
+    private long maxEntryBytes;
+
+    @Value("${app.migration.max-nesting-depth:4}")
+    private int maxNestingDepth;
+
+    @Value("${app.migration.stale-after-ms:900000}")
+    private long staleAfterMillis;
+
+    @Value("${app.migration.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${app.migration.shutdown-timeout-ms:20000}")
+    private long shutdownTimeoutMillis;
+
+    public MigrationJobService(
+            MigrationJobRepository jobRepo,
+            MigrationJobRecordRepository recordRepo,
+            MigrationService migrationService,
+            ParseStage parseStage,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.migration.worker-threads:2}") int workerThreads
+    ) {
+        this.jobRepo = jobRepo;
+        this.recordRepo = recordRepo;
+        this.migrationService = migrationService;
+        this.parseStage = parseStage;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "migration-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public MigrationDtos.JobResponse start(UUID userId, MultipartFile file) {
+        MigrationJob job = create(userId, file);
+        executor.execute(() -> run(job.getId()));
+        return toResponse(job);
+    }
+
+    public MigrationService.MigrationReport importNow(UUID userId, MultipartFile file) {
+        MigrationJob job = create(userId, file);
+        run(job.getId());
+        return report(job.getId());
+    }
+
+    public MigrationDtos.JobResponse resume(UUID userId, UUID jobId) {
+        MigrationJob job = owned(userId, jobId);
+        if (!FAILED.equals(job.getStatus())) throw new ConflictException("실패한 작업만 재개할 수 있습니다.");
+        if (!Files.exists(Path.of(job.getSpoolPath()))) throw new ConflictException("업로드 파일이 남아 있지 않아 재개할 수 없습니다.");
+        try {
+            if (jobRepo.transition(jobId, FAILED, QUEUED, Instant.now()) == 0) {
+                throw new ConflictException("실패한 작업만 재개할 수 있습니다.");
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException(ALREADY_RUNNING);
+        }
+        executor.execute(() -> run(jobId));
+        return get(userId, jobId);
+    }
+
+    public List<MigrationDtos.JobResponse> list(UUID userId) {
+        return jobRepo.findByUserIdOrderByCreatedAtDesc(userId, Limit.of(LIST_LIMIT)).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    public MigrationDtos.JobResponse get(UUID userId, UUID jobId) {
+        return toResponse(owned(userId, jobId));
+    }
+
+    public MigrationService.MigrationReport report(UUID userId, UUID jobId) {
+        owned(userId, jobId);
+        return report(jobId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.migration.sweep-ms:60000}")
+    public void sweep() {
+        if (!running) return;
+        try {
+            Instant now = Instant.now();
+            int stale = jobRepo.failStale(ACTIVE, now.minusMillis(staleAfterMillis), "진행 상황이 갱신되지 않아 중단된 것으로 처리했습니다.", now);
+            if (stale > 0) log.warn("marked {} stale migration jobs as failed", stale);
+            for (MigrationJob job : jobRepo.findByStatusAndUpdatedAtBefore(FAILED, now.minus(Duration.ofHours(retentionHours)))) {
+                if (jobRepo.expire(job.getId(), now) > 0) deleteQuietly(Path.of(job.getSpoolPath()));
+            }
+        } catch (Exception e) {
+            log.warn("migration job sweep failed: {}", e.getMessage());
+        }
+    }
+
+    private MigrationJob create(UUID userId, MultipartFile file) {
+        if (jobRepo.existsByUserIdAndStatusIn(userId, ACTIVE)) throw new ConflictException(ALREADY_RUNNING);
+        UUID jobId = UUID.randomUUID();
+        Path spoolPath = spoolDir().resolve("migration-" + jobId + ".zip");
+        try {
+            Files.createDirectories(spoolPath.getParent());
+            file.transferTo(spoolPath);
+        } catch (IOException e) {
+            deleteQuietly(spoolPath);
+            throw new IllegalArgumentException("업로드 파일을 저장할 수 없습니다.");
+        }
+
+        MigrationJob job = new MigrationJob();
+        job.setId(jobId);
+        job.setUserId(userId);
+        job.setStatus(QUEUED);
+        job.setPhase(PREPARE);
+        String original = file.getOriginalFilename();
+        job.setSourceName(original == null || original.isBlank() ? "upload.zip" : original.replace('\\', '/'));
+        job.setSpoolPath(spoolPath.toString());
+        try {
+            return jobRepo.saveAndFlush(job);
+        } catch (DataIntegrityViolationException e) {
+            deleteQuietly(spoolPath);
+            throw new ConflictException(ALREADY_RUNNING);
+        }
+    }
+
+    private void run(UUID jobId) {
+        if (jobRepo.transition(jobId, QUEUED, RUNNING, Instant.now()) == 0) return;
+        MigrationJob job = jobRepo.findById(jobId).orElse(null);
+        if (job == null) return;
+        String error = null;
+        try {
+            execute(job);
+        } catch (Exception e) {
+            error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            log.warn("migration job {} failed: {}", jobId, error);
+        }
+        try {
+            finish(job, error);
+        } catch (Exception e) {
+            log.warn("migration job {} could not be finalized: {}", jobId, e.getMessage());
+        }
+        eventPublisher.publishEvent(new WorkspaceBulkChangedEvent(job.getUserId()));
+    }
+
+    private void execute(MigrationJob job) {
+        if (!running) throw new IllegalStateException("서버 종료로 중단되었습니다.");
+        UUID userId = job.getUserId();
+        ImportState state = restore(job);
+        List<String> spoolFailures = new ArrayList<>();
+        try (ZipSpool spool = ZipSpool.open(Path.of(job.getSpoolPath()), job.getSourceName(), spoolDir(), maxNestingDepth, maxEntryBytes, spoolFailures)) {
+            MigrationService.ImportPlan plan = migrationService.plan(spool.entries());
+            if (PREPARE.equals(job.getPhase())) {
+                state.failures.addAll(spoolFailures);
+                job = step(job.getId(), state, j -> {
+                    j.setPhase(CSV);
+                    j.setCsvTotal(plan.csv().size());
+                    j.setDocsTotal(plan.docs().size());
+                    j.setAssetsTotal(plan.assets().size());
+                });
+            }
+            try (var csvs = parseStage.map(remaining(plan.csv(), job.getCsvDone()), migrationService::prepareCsv)) {
+                while (csvs.hasNext()) {
+                    MigrationService.PreparedCsv csv = csvs.next();
+                    job = step(job.getId(), state, j -> {
+                        migrationService.importCsv(userId, csv, state);
+                        j.setCsvDone(j.getCsvDone() + 1);
+                    });
+                }
+            }
+            try (var docs = parseStage.map(remaining(plan.docs(), job.getDocsDone()), migrationService::prepareDocument)) {
+                while (docs.hasNext()) {
+                    MigrationService.PreparedDocument doc = docs.next();
+                    job = step(job.getId(), state, j -> {
+                        j.setPhase(DOCS);
+                        migrationService.importDocument(userId, doc, state);
+                        j.setDocsDone(j.getDocsDone() + 1);
+                    });
+                }
+            }
+            for (ZipSpool.Entry entry : remaining(plan.assets(), job.getAssetsDone())) {
+                job = step(job.getId(), state, j -> {
+                    j.setPhase(ASSETS);
+                    migrationService.importAsset(userId, entry, state);
+                    j.setAssetsDone(j.getAssetsDone() + 1);
+                });
+            }
+        }
+
+        if (!REWRITES.equals(job.getPhase())) {
+            job = step(job.getId(), state, j -> {
+                j.setPhase(REWRITES);
+                j.setRewritesTotal((int) migrationService.rewriteTotal(userId, state));
+            });
+        }
+        while (true) {
+            List<UUID> targets = migrationService.rewriteTargets(userId, state, job.getRewriteCursor(), REWRITE_BATCH);
+            if (targets.isEmpty()) break;
+            for (UUID itemId : targets) {
+                job = step(job.getId(), state, j -> {
+                    migrationService.rewriteItem(userId, itemId, state);
+                    j.setRewriteCursor(itemId);
+                    j.setRewritesDone(j.getRewritesDone() + 1);
+                });
+            }
+        }
+    }
+
+    private MigrationJob step(UUID jobId, ImportState state, Consumer<MigrationJob> work) {
+        MigrationJob job = transactionTemplate.execute(status -> {
+            MigrationJob current = jobRepo.findByIdForUpdate(jobId)
+                    .orElseThrow(() -> new IllegalStateException("가져오기 작업이 삭제되었습니다."));
+            if (!running) throw new IllegalStateException("서버 종료로 중단되었습니다.");
+            if (!RUNNING.equals(current.getStatus())) throw new IllegalStateException("작업이 더 이상 실행 중이 아닙니다.");
+            work.accept(current);
+            current.setPersistedItems(state.persistedItems);
+            current.setPersistedFiles(state.persistedFiles);
+            recordRepo.saveAll(pendingRecords(jobId, state));
+            return current;
+        });
+        state.detected.clear();
+        state.failures.clear();
+        state.mappings.clear();
+        return Objects.requireNonNull(job);
+    }
+
+    private ImportState restore(MigrationJob job) {
+        ImportState state = new ImportState();
+        state.persistedItems = job.getPersistedItems();
+        state.persistedFiles = job.getPersistedFiles();
+        for (String kind : List.of(ImportState.PATH, ImportState.ASSET)) {
+            for (MigrationJobRecord record : recordRepo.findByJobIdAndKindOrderByIdAsc(job.getId(), kind)) {
+                migrationService.restore(state, new ImportState.Mapping(kind, record.getItemId(), record.getName(), record.getValue()));
+            }
+        }
+        return state;
+    }
+
+    private List<MigrationJobRecord> pendingRecords(UUID jobId, ImportState state) {
+        List<MigrationJobRecord> records = new ArrayList<>();
+        state.detected.forEach(text -> records.add(record(jobId, DETECTED, null, text, null)));
+        state.failures.forEach(text -> records.add(record(jobId, FAILURE, null, text, null)));
+        state.mappings.forEach(mapping -> records.add(record(jobId, mapping.kind(), mapping.itemId(), mapping.path(), mapping.url())));
+        return records;
+    }
+
+    private MigrationJobRecord record(UUID jobId, String kind, UUID itemId, String name, String value) {
+        MigrationJobRecord record = new MigrationJobRecord();
+        record.setJobId(jobId);
+        record.setKind(kind);
+        record.setItemId(itemId);
+        record.setName(name);
+        record.setValue(value);
+        return record;
+    }
+
+    private void finish(MigrationJob job, String error) {
+        Boolean finished = transactionTemplate.execute(status -> jobRepo.findByIdForUpdate(job.getId())
+                .filter(current -> RUNNING.equals(current.getStatus()))
+                .map(current -> {
+                    current.setStatus(error == null ? COMPLETED : FAILED);
+                    if (error == null) current.setPhase(DONE);
+                    current.setError(error);
+                    current.setFinishedAt(Instant.now());
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(finished)) return;
+        meterRegistry.counter("migration.jobs", "result", error == null ? "completed" : "failed").increment();
+        if (error == null) deleteQuietly(Path.of(job.getSpoolPath()));
+    }
+
+    private MigrationService.MigrationReport report(UUID jobId) {
+        MigrationJob job = jobRepo.findById(jobId).orElseThrow(() -> new EntityNotFoundException("가져오기 작업을 찾을 수 없습니다."));
+        List<String> failures = new ArrayList<>(texts(jobId, FAILURE));
+        if (job.getError() != null) failures.add("가져오기 중단: " + job.getError());
+        return new MigrationService.MigrationReport(
+                texts(jobId, DETECTED),
+                job.getPersistedItems(),
+                job.getPersistedFiles(),
+                failures,
+                MigrationService.MANUAL_FIX_HINTS
+        );
+    }
+
+    private List<String> texts(UUID jobId, String kind) {
+        return recordRepo.findByJobIdAndKindOrderByIdAsc(jobId, kind).stream().map(MigrationJobRecord::getName).toList();
+    }
+
+    private MigrationJob owned(UUID userId, UUID jobId) {
+        return jobRepo.findById(jobId)
+                .filter(job -> job.getUserId().equals(userId))
+                .orElseThrow(() -> new EntityNotFoundException("가져오기 작업을 찾을 수 없습니다."));
+    }
+
+    private MigrationDtos.JobResponse toResponse(MigrationJob job) {
+        return new MigrationDtos.JobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getPhase(),
+                job.getSourceName(),
+                new MigrationDtos.PhaseProgress(job.getCsvDone(), job.getCsvTotal()),
+                new MigrationDtos.PhaseProgress(job.getDocsDone(), job.getDocsTotal()),
+                new MigrationDtos.PhaseProgress(job.getAssetsDone(), job.getAssetsTotal()),
+                new MigrationDtos.PhaseProgress(job.getRewritesDone(), job.getRewritesTotal()),
+                job.getPersistedItems(),
+                job.getPersistedFiles(),
+                recordRepo.countByJobIdAndKind(job.getId(), FAILURE),
+                job.getError(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                job.getFinishedAt()
+        );
+    }
+
+    private static <T> List<T> remaining(List<T> entries, int done) {
+        return entries.subList(Math.min(done, entries.size()), entries.size());
+    }
+
+    private Path spoolDir() {
+        return spoolDir == null || spoolDir.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"))
+                : Path.of(spoolDir);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("could not delete migration spool file {}: {}", file, e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) executor.shutdownNow();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // 진행 중인 작업이 다음 단계 경계에서 실패 상태로 기록되도록 DB 연결보다 먼저, 웹 서버보다 늦게 멈춘다.
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
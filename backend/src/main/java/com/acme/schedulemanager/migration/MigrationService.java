@@ -1,5 +1,6 @@
 package com.acme.schedulemanager.migration;
 
+import com.acme.schedulemanager.content.BlockChunkService;
 import com.acme.schedulemanager.domain.entity.BlockDocument;
 import com.acme.schedulemanager.domain.entity.DayNote;
 import com.acme.schedulemanager.domain.entity.FileAsset;
@@ -9,9 +10,8 @@ import com.acme.schedulemanager.domain.repo.DayNoteRepository;
 import com.acme.schedulemanager.domain.repo.FileAssetRepository;
 import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
 import com.acme.schedulemanager.files.StorageService;
+import com.acme.schedulemanager.workspace.ItemContentChangedEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -19,11 +19,12 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.Jsoup;
 import org.jsoup.safety.Safelist;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URLDecoder;
@@ -46,6 +47,12 @@ public class MigrationService {
     private static final Pattern TRAILING_ID = Pattern.compile("\\s+[0-9a-f]{32}$", Pattern.CASE_INSENSITIVE);
     private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^\\]]*\\]\\(([^)]+)\\)");
     private static final Set<String> ASSET_EXT = Set.of("png", "jpg", "jpeg", "webp", "gif", "pdf", "txt", "csv", "doc", "docx", "xls", "xlsx", "ppt", "pptx");
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    static final List<String> MANUAL_FIX_HINTS = List.of(
+            "날짜/상태 컬럼명이 다른 경우 수동 매핑 필요",
+            "일부 비표준 체크리스트 문법은 일반 문단으로 변환될 수 있음",
+            "중첩 ZIP 구조는 자동 탐지되지만 암호화 ZIP은 지원하지 않음"
+    );
 
     private final WorkspaceItemRepository itemRepo;
     private final BlockDocumentRepository blockRepo;
@@ -53,6 +60,8 @@ public class MigrationService {
     private final FileAssetRepository fileRepo;
     private final StorageService storageService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockChunkService blockChunkService;
 
     public MigrationService(
             WorkspaceItemRepository itemRepo,
@@ -60,7 +69,9 @@ public class MigrationService {
             DayNoteRepository dayNoteRepo,
             FileAssetRepository fileRepo,
             StorageService storageService,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            BlockChunkService blockChunkService
     ) {
         this.itemRepo = itemRepo;
         this.blockRepo = blockRepo;
@@ -68,159 +79,32 @@ public class MigrationService {
         this.fileRepo = fileRepo;
         this.storageService = storageService;
         this.objectMapper = objectMapper;
-    }
-
-    @Transactional
-    public MigrationReport importZip(UUID userId, MultipartFile zipFile) {
-        List<String> detected = new ArrayList<>();
-        List<String> failures = new ArrayList<>();
-        int persistedItems = 0;
-        int persistedFiles = 0;
-        Map<String, UUID> itemPathMap = new HashMap<>();
-        Map<UUID, Map<String, String>> itemAssetRewrites = new HashMap<>();
-        Map<String, String> globalAssetRewrites = new HashMap<>();
-
-        try {
-            byte[] topBytes = zipFile.getBytes();
-            String sourceName = safeName(zipFile.getOriginalFilename(), "upload.zip");
-            List<ArchiveEntryData> entries = extractEntries(sourceName, topBytes, failures);
-
-            for (ArchiveEntryData entry : entries) {
-                String lower = entry.path().toLowerCase();
-                if (lower.endsWith(".csv")) {
-                    if (lower.endsWith("_all.csv")) {
-                        detected.add("csv-skip-all:" + entry.path());
-                        continue;
-                    }
-                    detected.add("csv:" + entry.path());
-                    persistedItems += parseCsv(userId, entry.bytes(), entry.path(), failures);
-                }
-            }
-
-            List<ArchiveEntryData> docs = entries.stream()
-                    .filter(e -> {
-                        String lower = e.path().toLowerCase();
-                        return lower.endsWith(".md") || lower.endsWith(".html") || lower.endsWith(".htm");
-                    })
-                    .sorted((a, b) -> Integer.compare(depth(a.path()), depth(b.path())))
-                    .toList();
-
-            for (ArchiveEntryData entry : docs) {
-                String lower = entry.path().toLowerCase();
-                UUID parentId = findParentIdForDocument(entry.path(), itemPathMap);
-                int levelFromDate = levelFromDate(entry.path());
-                boolean mergeToParent = parentId != null && levelFromDate >= 2;
-                if (lower.endsWith(".md")) {
-                    detected.add("markdown:" + entry.path());
-                    String markdown = new String(entry.bytes(), StandardCharsets.UTF_8);
-                    if (mergeToParent) {
-                        String html = markdownToHtml(markdown);
-                        appendToParentBlock(parentId, fileName(entry.path()), html, failures);
-                    } else {
-                        ParseResult result = parseMarkdown(userId, markdown, entry.path(), parentId, failures);
-                        if (result.itemId() != null) {
-                            if (result.created()) persistedItems++;
-                            registerItemPath(itemPathMap, entry.path(), result.itemId());
-                        }
-                    }
-                } else {
-                    detected.add("html:" + entry.path());
-                    String html = new String(entry.bytes(), StandardCharsets.UTF_8);
-                    if (mergeToParent) {
-                        String safeHtml = Jsoup.clean(Jsoup.parse(html).body().html(), Safelist.relaxed().addTags("hr"));
-                        appendToParentBlock(parentId, fileName(entry.path()), safeHtml, failures);
-                    } else {
-                        ParseResult result = parseHtml(userId, html, entry.path(), parentId, failures);
-                        if (result.itemId() != null) {
-                            if (result.created()) persistedItems++;
-                            registerItemPath(itemPathMap, entry.path(), result.itemId());
-                        }
-                    }
-                }
-            }
-
-            for (ArchiveEntryData entry : entries) {
-                String ext = extension(entry.path());
-                if (!ASSET_EXT.contains(ext)) continue;
-                UUID itemId = findBestItemMatch(entry.path(), itemPathMap);
-                if (itemId == null) continue;
-
-                try {
-                    String mime = toMime(ext);
-                    String originalName = fileName(entry.path());
-                    String storedName = storageService.store(originalName, mime, entry.bytes());
-                    FileAsset asset = new FileAsset();
-                    asset.setUserId(userId);
-                    asset.setItemId(itemId);
-                    asset.setOriginalName(originalName);
-                    asset.setStoredName(storedName);
-                    asset.setMimeType(mime);
-                    asset.setSizeBytes(entry.bytes().length);
-                    fileRepo.save(asset);
-                    registerAssetRewrite(itemAssetRewrites, globalAssetRewrites, itemId, entry.path(), originalName, "/files/" + storedName);
-                    persistedFiles++;
-                } catch (Exception e) {
-                    failures.add("파일 저장 실패(" + entry.path() + "): " + e.getMessage());
-                }
-            }
-
-            for (var entry : itemAssetRewrites.entrySet()) {
-                Map<String, String> merged = new HashMap<>(globalAssetRewrites);
-                merged.putAll(entry.getValue());
-                rewriteBlockImageUrls(entry.getKey(), merged);
-            }
-            if (!globalAssetRewrites.isEmpty()) {
-                itemRepo.findByUserIdOrderByUpdatedAtDesc(userId)
-                        .forEach(item -> rewriteBlockImageUrls(item.getId(), globalAssetRewrites));
-            }
-        } catch (Exception e) {
-            failures.add("ZIP 읽기 실패: " + e.getMessage());
-        }
-
-        return new MigrationReport(
-                detected,
-                persistedItems,
-                persistedFiles,
-                failures,
-                List.of(
-                        "날짜/상태 컬럼명이 다른 경우 수동 매핑 필요",
-                        "일부 비표준 체크리스트 문법은 일반 문단으로 변환될 수 있음",
-                        "중첩 ZIP 구조는 자동 탐지되지만 암호화 ZIP은 지원하지 않음"
-                )
-        );
-    }
-
-    private List<ArchiveEntryData> extractEntries(String sourceName, byte[] zipBytes, List<String> failures) {
-        List<ArchiveEntryData> out = new ArrayList<>();
-        try (ZipArchiveInputStream zip = new ZipArchiveInputStream(
-                new ByteArrayInputStream(zipBytes),
-                StandardCharsets.UTF_8.name(),
-                true,
-                true,
-                true
-        )) {
-            ZipArchiveEntry entry;
-            while ((entry = zip.getNextEntry()) != null) {
-                if (entry.isDirectory()) continue;
-                byte[] bytes = zip.readAllBytes();
-                String fullPath = sourceName + "/" + entry.getName().replace('\\', '/');
-                if (fullPath.toLowerCase().endsWith(".zip")) {
-                    out.addAll(extractEntries(fullPath, bytes, failures));
-                } else {
-                    out.add(new ArchiveEntryData(fullPath, bytes));
-                }
-            }
-        } catch (Exception e) {
-            failures.add("ZIP 펼치기 실패(" + sourceName + "): " + e.getMessage());
-        }
-        return out;
-    }
-
-    private int parseCsv(UUID userId, byte[] bytes, String sourcePath, List<String> failures) {
-        int count = 0;
-        Map<LocalDate, StringBuilder> issueByDate = new HashMap<>();
-        Map<LocalDate, StringBuilder> memoByDate = new HashMap<>();
-        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+        this.eventPublisher = eventPublisher;
+        this.blockChunkService = blockChunkService;
+    }
+
+    ImportPlan plan(List<ZipSpool.Entry> entries) {
+        List<ZipSpool.Entry> csv = entries.stream()
+                .filter(e -> e.path().toLowerCase().endsWith(".csv"))
+                .toList();
+        List<ZipSpool.Entry> docs = entries.stream()
+                .filter(e -> {
+                    String lower = e.path().toLowerCase();
+                    return lower.endsWith(".md") || lower.endsWith(".html") || lower.endsWith(".htm");
+                })
+                .sorted((a, b) -> Integer.compare(depth(a.path()), depth(b.path())))
+                .toList();
+        List<ZipSpool.Entry> assets = entries.stream()
+                .filter(e -> ASSET_EXT.contains(extension(e.path())))
+                .toList();
+        return new ImportPlan(csv, docs, assets);
+    }
+
+    PreparedCsv prepareCsv(ZipSpool.Entry entry) {
+        String sourcePath = entry.path();
+        if (sourcePath.toLowerCase().endsWith("_all.csv")) return new PreparedCsv(sourcePath, true, List.of(), null);
+        List<CsvRow> rows = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(entry.open(), StandardCharsets.UTF_8);
              CSVParser parser = CSVFormat.DEFAULT.builder()
                      .setHeader()
                      .setSkipHeaderRecord(true)
@@ -244,110 +128,218 @@ public class MigrationService {
                             : dueDate.toString();
                     title = title.lines().findFirst().orElse(title).trim();
                     if (title.length() > 120) title = title.substring(0, 120);
-                    WorkspaceItem item = new WorkspaceItem();
-                    item.setUserId(userId);
-                    item.setTitle(normalizeTitle(title));
-                    item.setStatus("todo");
-                    item.setTemplateType("worklog");
-                    if (dueDate != null) item.setDueDate(dueDate);
-                    itemRepo.save(item);
-
                     String work = read(record, workKey);
                     String issue = read(record, issueKey);
                     String memo = read(record, memoKey);
-                    String html = csvRowToHtml(work, issue, memo);
-                    if (!html.isBlank()) saveHtmlBlock(item.getId(), html, issue, memo);
-                    mergeDayText(issueByDate, dueDate, issue);
-                    mergeDayText(memoByDate, dueDate, memo);
-                    count++;
+                    rows.add(new CsvRow(index, dueDate, normalizeTitle(title), csvRowToHtml(work, issue, memo), issue, memo, null));
                 } catch (Exception e) {
-                    failures.add("CSV 레코드 파싱 실패(" + sourcePath + ", " + (index + 1) + "행): " + e.getMessage());
+                    rows.add(new CsvRow(index, null, null, null, null, null, e.getMessage()));
                 }
             }
         } catch (Exception e) {
-            failures.add("CSV 파싱 실패(" + sourcePath + "): " + e.getMessage());
+            return new PreparedCsv(sourcePath, false, rows, e.getMessage());
         }
-        upsertDayNotes(userId, issueByDate, memoByDate);
-        return count;
+        return new PreparedCsv(sourcePath, false, rows, null);
     }
 
-    private ParseResult parseMarkdown(UUID userId, String markdown, String filePath, UUID parentId, List<String> failures) {
+    void importCsv(UUID userId, PreparedCsv csv, ImportState state) {
+        if (csv.skipAll()) {
+            state.detected.add("csv-skip-all:" + csv.path());
+            return;
+        }
+        state.detected.add("csv:" + csv.path());
+        state.persistedItems += persistCsv(userId, csv, state.failures);
+    }
+
+    PreparedDocument prepareDocument(ZipSpool.Entry entry) {
+        String filePath = entry.path();
+        boolean markdown = filePath.toLowerCase().endsWith(".md");
+        byte[] bytes;
         try {
-            String extractedTitle = extractTitleFromMarkdown(markdown, filePath);
-            LocalDate dueDate = parseDateFlexible(extractedTitle + " " + filePath);
-            if (parentId == null && dueDate != null) {
-                WorkspaceItem existing = findAnchorByDueDate(userId, dueDate);
-                if (existing != null) {
-                    appendToParentBlock(existing.getId(), fileName(filePath), markdownToHtml(markdown), failures);
-                    return new ParseResult(existing.getId(), false);
-                }
+            bytes = entry.readBytes();
+        } catch (IOException e) {
+            return new PreparedDocument(filePath, markdown, null, null, null, null, null, e.getMessage(), null);
+        }
+        String source = new String(bytes, StandardCharsets.UTF_8);
+        String html;
+        try {
+            html = markdown
+                    ? markdownToHtml(source)
+                    : Jsoup.clean(Jsoup.parse(source).body().html(), Safelist.relaxed().addTags("hr"));
+        } catch (Exception e) {
+            return new PreparedDocument(filePath, markdown, null, null, null, null, null, null, e.getMessage());
+        }
+        try {
+            if (markdown) {
+                String title = extractTitleFromMarkdown(source, filePath);
+                LocalDate dueDate = parseDateFlexible(title + " " + filePath);
+                return new PreparedDocument(filePath, true, title, dueDate, dueDate, inferTemplateType(source), html, null, null);
             }
+            String title = normalizeTitle(stripExtension(fileName(filePath)));
+            return new PreparedDocument(filePath, false, title, parseDateFlexible(filePath),
+                    parseDateFlexible(title + " " + filePath), "free", html, null, null);
+        } catch (Exception e) {
+            return new PreparedDocument(filePath, markdown, null, null, null, null, html, null, e.getMessage());
+        }
+    }
 
-            WorkspaceItem item = new WorkspaceItem();
-            item.setUserId(userId);
-            item.setTitle(extractedTitle);
-            item.setStatus("todo");
-            item.setTemplateType(inferTemplateType(markdown));
-            item.setParentId(parentId);
-            if (dueDate == null && parentId != null) {
-                dueDate = itemRepo.findById(parentId).map(WorkspaceItem::getDueDate).orElse(null);
-            }
-            if (dueDate != null) item.setDueDate(dueDate);
-            itemRepo.save(item);
+    void importDocument(UUID userId, PreparedDocument doc, ImportState state) {
+        List<String> failures = state.failures;
+        if (doc.readError() != null) {
+            failures.add("문서 읽기 실패(" + doc.path() + "): " + doc.readError());
+            return;
+        }
+        UUID parentId = findParentIdForDocument(doc.path(), state.itemPathMap);
+        int levelFromDate = levelFromDate(doc.path());
+        boolean mergeToParent = parentId != null && levelFromDate >= 2;
+        state.detected.add((doc.markdown() ? "markdown:" : "html:") + doc.path());
+        if (mergeToParent && doc.html() != null) {
+            appendToParentBlock(userId, parentId, fileName(doc.path()), doc.html(), failures);
+            return;
+        }
+        ParseResult result = persistDocument(userId, doc, parentId, failures);
+        if (result.itemId() != null) {
+            if (result.created()) state.persistedItems++;
+            registerItemPath(state, doc.path(), result.itemId());
+        }
+    }
 
-            String html = markdownToHtml(markdown);
-            if (!html.isBlank()) saveHtmlBlock(item.getId(), html);
-            return new ParseResult(item.getId(), true);
+    void importAsset(UUID userId, ZipSpool.Entry entry, ImportState state) {
+        String ext = extension(entry.path());
+        UUID itemId = findBestItemMatch(entry.path(), state.itemPathMap);
+        if (itemId == null) return;
+
+        try {
+            String mime = toMime(ext);
+            String originalName = fileName(entry.path());
+            String storedName;
+            try (InputStream content = entry.open()) {
+                storedName = storageService.store(originalName, mime, content);
+            }
+            FileAsset asset = new FileAsset();
+            asset.setUserId(userId);
+            asset.setItemId(itemId);
+            asset.setOriginalName(originalName);
+            asset.setStoredName(storedName);
+            asset.setMimeType(mime);
+            asset.setSizeBytes(entry.size());
+            fileRepo.save(asset);
+            registerAssetRewrite(state, itemId, entry.path(), "/files/" + storedName);
+            state.persistedFiles++;
         } catch (Exception e) {
-            failures.add("Markdown 파싱 실패(" + filePath + "): " + e.getMessage());
-            return new ParseResult(null, false);
+            state.failures.add("파일 저장 실패(" + entry.path() + "): " + e.getMessage());
+        }
+    }
+
+    long rewriteTotal(UUID userId, ImportState state) {
+        return state.globalAssetRewrites.isEmpty() ? state.itemAssetRewrites.size() : itemRepo.countByUserId(userId);
+    }
+
+    List<UUID> rewriteTargets(UUID userId, ImportState state, UUID after, int limit) {
+        if (!state.globalAssetRewrites.isEmpty()) {
+            return itemRepo.findIdsByUserIdAfter(userId, after == null ? FIRST_ID : after, Limit.of(limit));
         }
+        return state.itemAssetRewrites.keySet().stream()
+                .filter(id -> after == null || id.compareTo(after) > 0)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    void rewriteItem(UUID userId, UUID itemId, ImportState state) {
+        Map<String, String> itemRewrites = state.itemAssetRewrites.get(itemId);
+        if (itemRewrites == null) {
+            rewriteBlockImageUrls(userId, itemId, state.globalAssetRewrites);
+            return;
+        }
+        Map<String, String> merged = new HashMap<>(state.globalAssetRewrites);
+        merged.putAll(itemRewrites);
+        rewriteBlockImageUrls(userId, itemId, merged);
     }
 
-    private ParseResult parseHtml(UUID userId, String html, String filePath, UUID parentId, List<String> failures) {
+    void restore(ImportState state, ImportState.Mapping mapping) {
+        if (ImportState.PATH.equals(mapping.kind())) {
+            registerItemPath(state.itemPathMap, mapping.path(), mapping.itemId());
+        } else {
+            registerAssetRewrite(state.itemAssetRewrites, state.globalAssetRewrites, mapping.itemId(),
+                    mapping.path(), fileName(mapping.path()), mapping.url());
+        }
+    }
+
+    private int persistCsv(UUID userId, PreparedCsv csv, List<String> failures) {
+        int count = 0;
+        Map<LocalDate, StringBuilder> issueByDate = new HashMap<>();
+        Map<LocalDate, StringBuilder> memoByDate = new HashMap<>();
+        for (CsvRow row : csv.rows()) {
+            try {
+                if (row.error() != null) throw new IllegalArgumentException(row.error());
+                WorkspaceItem item = new WorkspaceItem();
+                item.setUserId(userId);
+                item.setTitle(row.title());
+                item.setStatus("todo");
+                item.setTemplateType("worklog");
+                if (row.dueDate() != null) item.setDueDate(row.dueDate());
+                itemRepo.save(item);
+
+                if (!row.html().isBlank()) saveHtmlBlock(userId, item.getId(), row.html(), row.issue(), row.memo());
+                mergeDayText(issueByDate, row.dueDate(), row.issue());
+                mergeDayText(memoByDate, row.dueDate(), row.memo());
+                count++;
+            } catch (Exception e) {
+                failures.add("CSV 레코드 파싱 실패(" + csv.path() + ", " + (row.index() + 1) + "행): " + e.getMessage());
+            }
+        }
+        if (csv.error() != null) failures.add("CSV 파싱 실패(" + csv.path() + "): " + csv.error());
+        upsertDayNotes(userId, issueByDate, memoByDate);
+        return count;
+    }
+
+    private ParseResult persistDocument(UUID userId, PreparedDocument doc, UUID parentId, List<String> failures) {
+        String filePath = doc.path();
         try {
-            LocalDate dueDate = parseDateFlexible(filePath);
-            if (parentId == null && dueDate != null) {
-                WorkspaceItem existing = findAnchorByDueDate(userId, dueDate);
+            if (doc.parseError() != null) throw new IllegalArgumentException(doc.parseError());
+            if (parentId == null && doc.anchorDate() != null) {
+                WorkspaceItem existing = findAnchorByDueDate(userId, doc.anchorDate());
                 if (existing != null) {
-                    String safeHtml = Jsoup.clean(Jsoup.parse(html).body().html(), Safelist.relaxed().addTags("hr"));
-                    appendToParentBlock(existing.getId(), fileName(filePath), safeHtml, failures);
+                    appendToParentBlock(userId, existing.getId(), fileName(filePath), doc.html(), failures);
                     return new ParseResult(existing.getId(), false);
                 }
             }
 
             WorkspaceItem item = new WorkspaceItem();
             item.setUserId(userId);
-            item.setTitle(normalizeTitle(stripExtension(fileName(filePath))));
+            item.setTitle(doc.title());
             item.setStatus("todo");
-            item.setTemplateType("free");
-            item.setParentId(parentId);
-            dueDate = parseDateFlexible(item.getTitle() + " " + filePath);
-            if (dueDate == null && parentId != null) {
-                dueDate = itemRepo.findById(parentId).map(WorkspaceItem::getDueDate).orElse(null);
+            item.setTemplateType(doc.templateType());
+            WorkspaceItem parent = parentId == null ? null : itemRepo.findById(parentId).orElse(null);
+            item.setParent(parent);
+            LocalDate dueDate = doc.dueDate();
+            if (dueDate == null && parent != null) {
+                dueDate = parent.getDueDate();
             }
             if (dueDate != null) item.setDueDate(dueDate);
             itemRepo.save(item);
 
-            String safeHtml = Jsoup.clean(Jsoup.parse(html).body().html(), Safelist.relaxed().addTags("hr"));
-            saveHtmlBlock(item.getId(), safeHtml);
+            if (!doc.markdown() || !doc.html().isBlank()) saveHtmlBlock(userId, item.getId(), doc.html());
             return new ParseResult(item.getId(), true);
         } catch (Exception e) {
-            failures.add("HTML 파싱 실패(" + filePath + "): " + e.getMessage());
+            failures.add((doc.markdown() ? "Markdown" : "HTML") + " 파싱 실패(" + filePath + "): " + e.getMessage());
             return new ParseResult(null, false);
         }
     }
 
-    private void saveHtmlBlock(UUID itemId, String html) throws Exception {
+    private void saveHtmlBlock(UUID userId, UUID itemId, String html) throws Exception {
         BlockDocument block = new BlockDocument();
         block.setItemId(itemId);
         block.setSortOrder(0);
         block.setType("paragraph");
         block.setContent(objectMapper.writeValueAsString(Map.of("html", html)));
         blockRepo.save(block);
+        eventPublisher.publishEvent(new ItemContentChangedEvent(userId, itemId, null));
+        blockChunkService.splitOversized(userId, itemId);
     }
 
-    private void saveHtmlBlock(UUID itemId, String html, String issue, String memo) throws Exception {
+    private void saveHtmlBlock(UUID userId, UUID itemId, String html, String issue, String memo) throws Exception {
         BlockDocument block = new BlockDocument();
         block.setItemId(itemId);
         block.setSortOrder(0);
@@ -358,28 +350,41 @@ public class MigrationService {
                 "memo", firstNonBlank(memo, "")
         )));
         blockRepo.save(block);
+        eventPublisher.publishEvent(new ItemContentChangedEvent(userId, itemId, null));
+        blockChunkService.splitOversized(userId, itemId);
     }
 
-    private void appendToParentBlock(UUID parentId, String sourceName, String html, List<String> failures) {
+    private void appendToParentBlock(UUID userId, UUID parentId, String sourceName, String html, List<String> failures) {
         if (parentId == null || html == null || html.isBlank()) return;
         try {
             String sectionTitle = normalizeTitle(stripExtension(sourceName));
             String section = "<hr /><h3>" + escapeHtml(sectionTitle) + "</h3>" + html;
-            BlockDocument block = blockRepo.findFirstByItemIdOrderBySortOrderAsc(parentId).orElse(null);
+            BlockDocument block = blockRepo.findFirstByItemIdOrderBySortOrderDesc(parentId).orElse(null);
             if (block == null) {
-                saveHtmlBlock(parentId, section);
+                saveHtmlBlock(userId, parentId, section);
                 return;
             }
             Map<String, Object> payload = objectMapper.readValue(block.getContent(), Map.class);
+            if (!payload.containsKey("html")) {
+                block = blockRepo.findFirstByItemIdOrderBySortOrderAsc(parentId).orElse(block);
+                payload = objectMapper.readValue(block.getContent(), Map.class);
+            }
             String oldHtml = String.valueOf(payload.getOrDefault("html", ""));
             payload.put("html", oldHtml + section);
             block.setContent(objectMapper.writeValueAsString(payload));
             blockRepo.save(block);
+            eventPublisher.publishEvent(new ItemContentChangedEvent(userId, parentId, null));
+            blockChunkService.splitOversized(userId, parentId);
         } catch (Exception e) {
             failures.add("상위 본문 병합 실패(" + sourceName + "): " + e.getMessage());
         }
     }
 
+    private void registerItemPath(ImportState state, String filePath, UUID itemId) {
+        registerItemPath(state.itemPathMap, filePath, itemId);
+        state.mappings.add(new ImportState.Mapping(ImportState.PATH, itemId, filePath, null));
+    }
+
     private void registerItemPath(Map<String, UUID> map, String filePath, UUID itemId) {
         String normalized = filePath.replace('\\', '/');
         String dir = directoryPath(normalized);
@@ -655,11 +660,6 @@ public class MigrationService {
         return idx < 0 ? name : name.substring(0, idx);
     }
 
-    private String safeName(String original, String fallback) {
-        if (original == null || original.isBlank()) return fallback;
-        return original.replace('\\', '/');
-    }
-
     private int depth(String path) {
         if (path == null || path.isBlank()) return 0;
         int depth = 0;
@@ -692,6 +692,11 @@ public class MigrationService {
         return Math.max(0, segments.size() - 1 - dateIndex);
     }
 
+    private void registerAssetRewrite(ImportState state, UUID itemId, String fullPath, String fileUrl) {
+        registerAssetRewrite(state.itemAssetRewrites, state.globalAssetRewrites, itemId, fullPath, fileName(fullPath), fileUrl);
+        state.mappings.add(new ImportState.Mapping(ImportState.ASSET, itemId, fullPath, fileUrl));
+    }
+
     private void registerAssetRewrite(
             Map<UUID, Map<String, String>> itemAssetRewrites,
             Map<String, String> globalAssetRewrites,
@@ -716,7 +721,7 @@ public class MigrationService {
         putRewrite(globalAssetRewrites, fileName(normalized), fileUrl);
     }
 
-    private void rewriteBlockImageUrls(UUID itemId, Map<String, String> rewrites) {
+    private void rewriteBlockImageUrls(UUID userId, UUID itemId, Map<String, String> rewrites) {
         if (rewrites.isEmpty()) return;
         List<BlockDocument> blocks = blockRepo.findByItemIdOrderBySortOrderAsc(itemId);
         for (BlockDocument block : blocks) {
@@ -730,6 +735,7 @@ public class MigrationService {
                     payload.put("html", updated);
                     block.setContent(objectMapper.writeValueAsString(payload));
                     blockRepo.save(block);
+                    eventPublisher.publishEvent(new ItemContentChangedEvent(userId, itemId, null));
                 }
             } catch (Exception ignored) {
             }
@@ -826,9 +832,26 @@ public class MigrationService {
         }
     }
 
-    private record ArchiveEntryData(String path, byte[] bytes) {}
     private record ParseResult(UUID itemId, boolean created) {}
 
+    record ImportPlan(List<ZipSpool.Entry> csv, List<ZipSpool.Entry> docs, List<ZipSpool.Entry> assets) {}
+
+    record PreparedCsv(String path, boolean skipAll, List<CsvRow> rows, String error) {}
+
+    record CsvRow(int index, LocalDate dueDate, String title, String html, String issue, String memo, String error) {}
+
+    record PreparedDocument(
+            String path,
+            boolean markdown,
+            String title,
+            LocalDate anchorDate,
+            LocalDate dueDate,
+            String templateType,
+            String html,
+            String readError,
+            String parseError
+    ) {}
+
     public record MigrationReport(
             List<String> detectedPatterns,
             int persistedItems,
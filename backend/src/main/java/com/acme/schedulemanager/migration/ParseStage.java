@@ -0,0 +1,119 @@
+package com.acme.schedulemanager.migration;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 가져오기 항목의 읽기/파싱을 저장 단계와 분리해 별도 풀에서 미리 처리한다.
+ * 결과는 입력 순서대로만 내보내므로 저장 단계는 순차 실행과 같은 순서를 유지한다.
+ * 앞서 처리하는 항목 수는 스레드 수의 두 배로 묶어 메모리 사용량을 제한한다.
+ */
+@Component
+class ParseStage {
+    private final ExecutorService executor;
+    private final int lookahead;
+
+    ParseStage(
+            @Value("${app.migration.parse.parallel:true}") boolean parallel,
+            @Value("${app.migration.parse.threads:0}") int threads
+    ) {
+        if (!parallel) {
+            this.executor = null;
+            this.lookahead = 0;
+            return;
+        }
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "migration-parse-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lookahead = size * 2;
+    }
+
+    <S, T> Pipeline<S, T> map(List<S> sources, Function<S, T> parse) {
+        return new Pipeline<>(sources.iterator(), parse);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    final class Pipeline<S, T> implements Iterator<T>, AutoCloseable {
+        private final Deque<Future<T>> window = new ArrayDeque<>();
+        private final Iterator<S> sources;
+        private final Function<S, T> parse;
+
+        private Pipeline(Iterator<S> sources, Function<S, T> parse) {
+            this.sources = sources;
+            this.parse = parse;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !window.isEmpty() || sources.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            if (executor == null) return parse.apply(sources.next());
+            fill();
+            return await(window.poll());
+        }
+
+        private void fill() {
+            while (window.size() < lookahead && sources.hasNext()) {
+                S source = sources.next();
+                window.add(executor.submit(() -> parse.apply(source)));
+            }
+        }
+
+        private T await(Future<T> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("문서 분석이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime) throw runtime;
+                if (cause instanceof Error error) throw error;
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        /**
+         * 이미 제출한 작업이 끝날 때까지 기다린다. 작업이 ZIP 채널을 읽는 중에
+         * 호출 측이 ZIP을 닫거나 인터럽트로 채널이 닫히지 않도록 취소하지 않는다.
+         */
+        @Override
+        public void close() {
+            while (!window.isEmpty()) {
+                Future<T> future = window.poll();
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException ignored) {
+                }
+            }
+        }
+    }
+}
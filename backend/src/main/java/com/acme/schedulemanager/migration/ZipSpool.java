@@ -0,0 +1,143 @@
+package com.acme.schedulemanager.migration;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 디스크에 내려 둔 ZIP의 중앙 디렉터리만 읽어 항목 목록을 만든다.
+ * 중첩 ZIP은 임시 파일로 풀어 같은 방식으로 열며, 항목 본문은 필요할 때 하나씩 읽는다.
+ * 닫을 때 중첩 ZIP 임시 파일만 지우고 원본 파일은 남긴다.
+ */
+final class ZipSpool implements Closeable {
+    private final Path dir;
+    private final int maxDepth;
+    private final long maxEntryBytes;
+    private final List<ZipFile> archives = new ArrayList<>();
+    private final List<Path> files = new ArrayList<>();
+    private final List<Entry> entries = new ArrayList<>();
+
+    private ZipSpool(Path dir, int maxDepth, long maxEntryBytes) {
+        this.dir = dir;
+        this.maxDepth = maxDepth;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    static ZipSpool open(Path archive, String sourceName, Path dir, int maxDepth, long maxEntryBytes, List<String> failures) {
+        ZipSpool spool = new ZipSpool(dir, maxDepth, maxEntryBytes);
+        try {
+            spool.index(sourceName, archive, 0, failures);
+            return spool;
+        } catch (RuntimeException e) {
+            spool.close();
+            throw e;
+        }
+    }
+
+    List<Entry> entries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    private Path spool(InputStream in) throws IOException {
+        Files.createDirectories(dir);
+        Path file = Files.createTempFile(dir, "nested-", ".zip");
+        files.add(file);
+        Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    private void index(String sourceName, Path file, int depth, List<String> failures) {
+        ZipFile zip;
+        try {
+            zip = openZip(file);
+        } catch (IOException e) {
+            failures.add("ZIP 펼치기 실패(" + sourceName + "): " + e.getMessage());
+            return;
+        }
+        archives.add(zip);
+        for (ZipArchiveEntry entry : Collections.list(zip.getEntriesInPhysicalOrder())) {
+            if (entry.isDirectory()) continue;
+            String fullPath = sourceName + "/" + entry.getName().replace('\\', '/');
+            if (!fullPath.toLowerCase().endsWith(".zip")) {
+                entries.add(new Entry(fullPath, zip, entry, maxEntryBytes));
+                continue;
+            }
+            if (depth >= maxDepth) {
+                failures.add("ZIP 펼치기 실패(" + fullPath + "): 중첩 깊이 제한(" + maxDepth + ")을 넘었습니다.");
+                continue;
+            }
+            try (InputStream in = zip.getInputStream(entry)) {
+                index(fullPath, spool(in), depth + 1, failures);
+            } catch (IOException e) {
+                failures.add("ZIP 펼치기 실패(" + fullPath + "): " + e.getMessage());
+            }
+        }
+    }
+
+    private static ZipFile openZip(Path file) throws IOException {
+        SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ);
+        try {
+            return ZipFile.builder()
+                    .setSeekableByteChannel(channel)
+                    .setCharset(StandardCharsets.UTF_8)
+                    .setUseUnicodeExtraFields(true)
+                    .get();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        for (ZipFile zip : archives) {
+            try {
+                zip.close();
+            } catch (IOException ignored) {
+            }
+        }
+        archives.clear();
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+        }
+        files.clear();
+    }
+
+    record Entry(String path, ZipFile zip, ZipArchiveEntry entry, long maxBytes) {
+        long size() {
+            return entry.getSize();
+        }
+
+        InputStream open() throws IOException {
+            return zip.getInputStream(entry);
+        }
+
+        byte[] readBytes() throws IOException {
+            if (entry.getSize() > maxBytes) throw tooLarge();
+            try (InputStream in = open()) {
+                byte[] bytes = in.readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE - 8));
+                if (bytes.length > maxBytes) throw tooLarge();
+                return bytes;
+            }
+        }
+
+        private IOException tooLarge() {
+            return new IOException("항목 크기 제한(" + maxBytes + " bytes)을 넘었습니다.");
+        }
+    }
+}
@@ -36,4 +36,10 @@ public class TagController {
         return tagRepository.findByUserIdOrderByNameAsc(SecurityUtils.principal().userId()).stream()
                 .map(tag -> new TagDtos.TagResponse(tag.getId(), tag.getName())).toList();
     }
+
+    @GetMapping("/counts")
+    public List<TagDtos.TagCountResponse> counts() {
+        return tagRepository.countItemsByTag(SecurityUtils.principal().userId()).stream()
+                .map(row -> new TagDtos.TagCountResponse(row.id(), row.name(), row.count())).toList();
+    }
 }
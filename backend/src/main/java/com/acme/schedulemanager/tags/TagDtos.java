@@ -7,4 +7,5 @@ import java.util.UUID;
 public class TagDtos {
     public record CreateTagRequest(@NotBlank String name) {}
     public record TagResponse(UUID id, String name) {}
+    public record TagCountResponse(UUID id, String name, long count) {}
 }
@@ -0,0 +1,53 @@
+package com.acme.schedulemanager.workspace;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+@Component
+public class BlockTextExtractor {
+    private final ObjectMapper objectMapper;
+
+    public BlockTextExtractor(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String extract(Collection<String> blockContents) {
+        StringBuilder out = new StringBuilder();
+        for (String content : blockContents) {
+            if (content == null || content.isBlank()) continue;
+            try {
+                append(out, null, objectMapper.readTree(content));
+            } catch (Exception e) {
+                append(out, content);
+            }
+        }
+        return out.toString();
+    }
+
+    private void append(StringBuilder out, String fieldName, JsonNode node) {
+        if (node.isTextual()) {
+            String value = node.asText();
+            append(out, "html".equals(fieldName) ? Jsoup.parseBodyFragment(value).text() : value);
+        } else if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                append(out, field.getKey(), field.getValue());
+            }
+        } else if (node.isArray()) {
+            for (JsonNode child : node) append(out, fieldName, child);
+        }
+    }
+
+    private void append(StringBuilder out, String text) {
+        if (text == null || text.isBlank()) return;
+        if (!out.isEmpty()) out.append(' ');
+        out.append(text.trim());
+    }
+}
@@ -0,0 +1,163 @@
+package com.acme.schedulemanager.workspace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+public class BoardCache {
+    private static final Logger log = LoggerFactory.getLogger(BoardCache.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final WorkspaceVersion workspaceVersion;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Value("${app.board-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.board-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public BoardCache(StringRedisTemplate redis, ObjectMapper objectMapper, WorkspaceVersion workspaceVersion, MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.workspaceVersion = workspaceVersion;
+        this.hits = Counter.builder("board.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("board.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("board.cache.evictions").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 보드를 돌려주고, 없으면 loader로 읽어 캐시한다. 값에는 읽기 시작 전의 워크스페이스 버전을 함께 저장하고 버전이 다르면
+     * 미스로 본다. 읽는 사이에 커밋된 쓰기가 eviction을 먼저 마쳐도, 뒤늦게 저장된 이전 행은 그 쓰기가 올린 버전과 맞지 않아 쓰이지 않는다.
+     */
+    public List<WorkspaceDtos.BoardRowResponse> getOrLoad(UUID userId, YearMonth month, Supplier<List<WorkspaceDtos.BoardRowResponse>> loader) {
+        if (!enabled) return loader.get();
+        OptionalLong version = workspaceVersion.current(userId);
+        if (version.isPresent()) {
+            Optional<List<WorkspaceDtos.BoardRowResponse>> cached = get(userId, month, version.getAsLong());
+            if (cached.isPresent()) return cached.get();
+        } else {
+            misses.increment();
+        }
+        List<WorkspaceDtos.BoardRowResponse> rows = loader.get();
+        if (version.isPresent()) put(userId, month, version.getAsLong(), rows);
+        return rows;
+    }
+
+    private Optional<List<WorkspaceDtos.BoardRowResponse>> get(UUID userId, YearMonth month, long version) {
+        try {
+            String cached = redis.opsForValue().get(key(userId, month));
+            if (cached != null) {
+                CachedBoard board = objectMapper.readValue(cached, CachedBoard.class);
+                if (board.version() == version) {
+                    hits.increment();
+                    return Optional.of(board.rows());
+                }
+            }
+        } catch (Exception e) {
+            log.debug("board cache read failed: {}", e.getMessage());
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    private void put(UUID userId, YearMonth month, long version, List<WorkspaceDtos.BoardRowResponse> rows) {
+        try {
+            Duration ttl = Duration.ofSeconds(ttlSeconds);
+            redis.opsForValue().set(key(userId, month), objectMapper.writeValueAsString(new CachedBoard(version, rows)), ttl);
+            redis.opsForSet().add(indexKey(userId), month.toString());
+            redis.expire(indexKey(userId), ttl);
+        } catch (Exception e) {
+            log.debug("board cache write failed: {}", e.getMessage());
+        }
+    }
+
+    public void evict(UUID userId, Collection<LocalDate> dueDates) {
+        List<String> keys = dueDates.stream()
+                .filter(Objects::nonNull)
+                .map(YearMonth::from)
+                .distinct()
+                .map(month -> key(userId, month))
+                .toList();
+        if (keys.isEmpty()) return;
+        try {
+            redis.delete(keys);
+            evictions.increment(keys.size());
+        } catch (Exception e) {
+            log.warn("board cache eviction failed: {}", e.getMessage());
+        }
+    }
+
+    public void evictAll(UUID userId) {
+        try {
+            Set<String> months = redis.opsForSet().members(indexKey(userId));
+            List<String> keys = new ArrayList<>();
+            if (months != null) months.forEach(month -> keys.add(key(userId, YearMonth.parse(month))));
+            keys.add(indexKey(userId));
+            redis.delete(keys);
+            evictions.increment(keys.size() - 1);
+        } catch (Exception e) {
+            log.warn("board cache eviction failed: {}", e.getMessage());
+        }
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        evict(event.userId(), Arrays.asList(event.previousDueDate(), event.dueDate()));
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ItemContentChangedEvent event) {
+        evict(event.userId(), Collections.singletonList(event.dueDate()));
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDayNoteChanged(DayNoteChangedEvent event) {
+        evict(event.userId(), Collections.singletonList(event.dueDate()));
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(WorkspaceBulkChangedEvent event) {
+        evictAll(event.userId());
+    }
+
+    private String key(UUID userId, YearMonth month) {
+        return "board:" + userId + ":" + month;
+    }
+
+    private String indexKey(UUID userId) {
+        return "board:months:" + userId;
+    }
+
+    record CachedBoard(long version, List<WorkspaceDtos.BoardRowResponse> rows) {}
+}
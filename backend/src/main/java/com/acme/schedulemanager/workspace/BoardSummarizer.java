@@ -0,0 +1,172 @@
+package com.acme.schedulemanager.workspace;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class BoardSummarizer {
+    static final int MAX_TEXT_LENGTH = 120;
+    private static final Set<String> SECTION_HEADINGS = Set.of("h1", "h2", "h3", "h4");
+
+    private final ObjectMapper objectMapper;
+
+    public BoardSummarizer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    BoardSummary summarize(String blockContent) {
+        return summarize(blockContent, List.of());
+    }
+
+    /** 첫 블록 HTML 뒤에 분할된 조각들의 HTML을 이어 붙여 요약한다. 업무일지 블록에는 조각을 적용하지 않는다. */
+    BoardSummary summarize(String blockContent, List<String> continuations) {
+        if (blockContent == null || blockContent.isBlank()) return BoardSummary.EMPTY;
+        try {
+            JsonNode root = objectMapper.readTree(blockContent);
+            JsonNode worklog = root.path("worklog");
+            if (worklog.isObject()) {
+                String todayWork = toOneLine(worklog.path("requestContent").asText(""));
+                String issue = toOneLine(worklog.path("requestChannel").asText(""));
+                String memo = toOneLine(worklog.path("processContent1").asText(""));
+                return new BoardSummary(
+                        todayWork,
+                        issue,
+                        memo,
+                        countToken(todayWork, "[ ]") + countToken(memo, "[ ]"),
+                        countToken(todayWork, "[x]") + countToken(memo, "[x]")
+                );
+            }
+            String html = root.path("html").asText("") + continuationHtml(continuations);
+            String issueFromPayload = toOneLine(root.path("issue").asText(""));
+            String memoFromPayload = toOneLine(root.path("memo").asText(""));
+            BoardSummary summary = summarizeHtml(html);
+            return new BoardSummary(
+                    summary.todayWork(),
+                    issueFromPayload.isBlank() ? summary.issue() : issueFromPayload,
+                    memoFromPayload.isBlank() ? summary.memo() : memoFromPayload,
+                    summary.checklistTotal(),
+                    summary.checklistDone()
+            );
+        } catch (Exception ignored) {
+            return BoardSummary.EMPTY;
+        }
+    }
+
+    private String continuationHtml(List<String> continuations) throws Exception {
+        if (continuations.isEmpty()) return "";
+        StringBuilder html = new StringBuilder();
+        for (String content : continuations) {
+            html.append(objectMapper.readTree(content).path("html").asText(""));
+        }
+        return html.toString();
+    }
+
+    String shortText(String raw) {
+        if (raw == null) return "";
+        String compact = collapseWhitespace(raw).trim();
+        return compact.length() > MAX_TEXT_LENGTH ? compact.substring(0, MAX_TEXT_LENGTH) + "..." : compact;
+    }
+
+    private BoardSummary summarizeHtml(String html) {
+        if (html == null || html.isBlank()) {
+            return BoardSummary.EMPTY;
+        }
+        BoardSummary scanned = HtmlSummaryScanner.scan(html);
+        return scanned != null ? scanned : summarizeWithJsoup(html);
+    }
+
+    BoardSummary summarizeWithJsoup(String html) {
+        Document doc = Jsoup.parseBodyFragment(html);
+        String today = "";
+        String issue = "";
+        String memo = "";
+        int total = 0;
+        int done = 0;
+        for (Element li : doc.select("li")) {
+            String text = li.text();
+            if (text.contains("[ ]") || text.contains("[x]") || text.contains("☐") || text.contains("☑")) {
+                total++;
+                if (text.contains("[x]") || text.contains("☑")) done++;
+            }
+        }
+
+        String section = null;
+        List<String> todayLines = new ArrayList<>();
+        List<String> issueLines = new ArrayList<>();
+        List<String> memoLines = new ArrayList<>();
+
+        for (Element el : doc.body().children()) {
+            String text = el.text().trim();
+            if (text.isBlank()) continue;
+            if (SECTION_HEADINGS.contains(el.tagName())) {
+                if (text.contains("요청내용") || text.contains("오늘의 업무")) {
+                    section = "today";
+                    continue;
+                }
+                if (text.contains("이슈")) {
+                    section = "issue";
+                    continue;
+                }
+                if (text.contains("메모")) {
+                    section = "memo";
+                    continue;
+                }
+                section = null;
+                continue;
+            }
+
+            if (section == null) continue;
+            if ("today".equals(section)) todayLines.add(text);
+            if ("issue".equals(section)) issueLines.add(text);
+            if ("memo".equals(section)) memoLines.add(text);
+        }
+
+        if (!todayLines.isEmpty()) today = shortText(String.join(" / ", todayLines));
+        if (!issueLines.isEmpty()) issue = shortText(String.join(" / ", issueLines));
+        if (!memoLines.isEmpty()) memo = shortText(String.join(" / ", memoLines));
+
+        if (today.isBlank()) today = shortText(doc.select("p,li").stream().map(Element::text).findFirst().orElse(""));
+        if (done > total) done = total;
+        return new BoardSummary(today, issue, memo, total, done);
+    }
+
+    private static String collapseWhitespace(String raw) {
+        StringBuilder out = new StringBuilder(raw.length());
+        boolean lastWasSpace = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r') {
+                if (!lastWasSpace) out.append(' ');
+                lastWasSpace = true;
+            } else {
+                out.append(c);
+                lastWasSpace = false;
+            }
+        }
+        return out.toString();
+    }
+
+    private int countToken(String source, String token) {
+        if (source == null || source.isBlank()) return 0;
+        int count = 0;
+        int from = 0;
+        while (true) {
+            int idx = source.indexOf(token, from);
+            if (idx < 0) return count;
+            count++;
+            from = idx + token.length();
+        }
+    }
+
+    private String toOneLine(String raw) {
+        return shortText(raw == null ? "" : raw.replace('\n', ' '));
+    }
+}
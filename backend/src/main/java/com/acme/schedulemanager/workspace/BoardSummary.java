@@ -0,0 +1,11 @@
+package com.acme.schedulemanager.workspace;
+
+record BoardSummary(
+        String todayWork,
+        String issue,
+        String memo,
+        int checklistTotal,
+        int checklistDone
+) {
+    static final BoardSummary EMPTY = new BoardSummary("", "", "", 0, 0);
+}
@@ -0,0 +1,175 @@
+package com.acme.schedulemanager.workspace;
+
+import com.acme.schedulemanager.common.TransactionBatches;
+import com.acme.schedulemanager.domain.entity.BlockDocument;
+import com.acme.schedulemanager.domain.entity.ItemBoardSummary;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
+import com.acme.schedulemanager.domain.repo.ItemBoardSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class BoardSummaryService {
+    private static final Logger log = LoggerFactory.getLogger(BoardSummaryService.class);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+
+    private final ItemBoardSummaryRepository summaryRepo;
+    private final BlockDocumentRepository blockRepo;
+    private final BoardSummarizer summarizer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.board-summary.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.board-summary.batch-size:200}")
+    private int batchSize;
+
+    public BoardSummaryService(
+            ItemBoardSummaryRepository summaryRepo,
+            BlockDocumentRepository blockRepo,
+            BoardSummarizer summarizer,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.summaryRepo = summaryRepo;
+        this.blockRepo = blockRepo;
+        this.summarizer = summarizer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    public void onContentChanged(ItemContentChangedEvent event) {
+        TransactionBatches.beforeCommit(this, event.itemId(), event.userId(), (itemId, userId) -> refresh(userId, itemId));
+    }
+
+    public void refresh(UUID userId, UUID itemId) {
+        BlockDocument firstBlock = blockRepo.findFirstByItemIdOrderBySortOrderAsc(itemId).orElse(null);
+        List<BlockDocument> continuations = firstBlock == null ? List.of() : blockRepo.findContinuationBlocksByItemIds(List.of(itemId));
+        ItemBoardSummary row = summaryRepo.findById(itemId).orElseGet(() -> {
+            ItemBoardSummary created = new ItemBoardSummary();
+            created.setItemId(itemId);
+            created.setUserId(userId);
+            return created;
+        });
+        apply(row, summarize(firstBlock, continuations));
+        summaryRepo.save(row);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) return;
+        try {
+            int created = backfill();
+            if (created > 0) log.info("board summary backfill created {} rows", created);
+        } catch (Exception e) {
+            log.warn("board summary backfill failed: {}", e.getMessage());
+        }
+    }
+
+    public int backfill() {
+        int created = 0;
+        UUID after = FIRST_ID;
+        while (true) {
+            List<WorkspaceItem> items = summaryRepo.findItemsWithoutSummary(after, Limit.of(batchSize));
+            if (items.isEmpty()) return created;
+            Integer saved = transactionTemplate.execute(status -> {
+                List<UUID> itemIds = items.stream().map(WorkspaceItem::getId).toList();
+                Map<UUID, BlockDocument> firstBlocks = firstBlocks(itemIds);
+                Map<UUID, List<BlockDocument>> continuations = continuations(itemIds);
+                for (WorkspaceItem item : items) {
+                    ItemBoardSummary row = new ItemBoardSummary();
+                    row.setItemId(item.getId());
+                    row.setUserId(item.getUserId());
+                    apply(row, summarize(firstBlocks.get(item.getId()), continuations.getOrDefault(item.getId(), List.of())));
+                    summaryRepo.save(row);
+                }
+                return items.size();
+            });
+            created += saved == null ? 0 : saved;
+            after = items.get(items.size() - 1).getId();
+        }
+    }
+
+    public ConsistencyReport checkConsistency(int limit, boolean repair) {
+        int checked = 0;
+        int mismatched = 0;
+        List<UUID> mismatchedItemIds = new ArrayList<>();
+        UUID after = FIRST_ID;
+        while (checked < limit) {
+            List<ItemBoardSummary> rows = summaryRepo.findByItemIdGreaterThanOrderByItemIdAsc(after, Limit.of(Math.min(batchSize, limit - checked)));
+            if (rows.isEmpty()) break;
+            List<UUID> itemIds = rows.stream().map(ItemBoardSummary::getItemId).toList();
+            Map<UUID, BlockDocument> firstBlocks = firstBlocks(itemIds);
+            Map<UUID, List<BlockDocument>> continuations = continuations(itemIds);
+            for (ItemBoardSummary row : rows) {
+                BoardSummary expected = summarize(firstBlocks.get(row.getItemId()), continuations.getOrDefault(row.getItemId(), List.of()));
+                if (!expected.equals(toSummary(row))) {
+                    mismatched++;
+                    if (mismatchedItemIds.size() < MAX_REPORTED_MISMATCHES) mismatchedItemIds.add(row.getItemId());
+                    if (repair) {
+                        transactionTemplate.executeWithoutResult(status -> refresh(row.getUserId(), row.getItemId()));
+                    }
+                }
+            }
+            checked += rows.size();
+            after = rows.get(rows.size() - 1).getItemId();
+        }
+        return new ConsistencyReport(checked, mismatched, summaryRepo.countItemsWithoutSummary(), repair, mismatchedItemIds);
+    }
+
+    private Map<UUID, BlockDocument> firstBlocks(List<UUID> itemIds) {
+        if (itemIds.isEmpty()) return Map.of();
+        return blockRepo.findFirstBlocksByItemIds(itemIds).stream()
+                .collect(Collectors.toMap(BlockDocument::getItemId, b -> b, (a, b) -> a));
+    }
+
+    private Map<UUID, List<BlockDocument>> continuations(List<UUID> itemIds) {
+        if (itemIds.isEmpty()) return Map.of();
+        return blockRepo.findContinuationBlocksByItemIds(itemIds).stream()
+                .collect(Collectors.groupingBy(BlockDocument::getItemId));
+    }
+
+    /** 분할된 조각은 첫 블록보다 뒤에 있는 것만 이어 붙인다. 첫 블록이 지워져 조각이 맨 앞이 된 경우 그 조각부터 요약한다. */
+    private BoardSummary summarize(BlockDocument firstBlock, List<BlockDocument> continuations) {
+        if (firstBlock == null) return summarizer.summarize(null);
+        List<String> following = continuations.stream()
+                .filter(b -> b.getSortOrder() > firstBlock.getSortOrder())
+                .map(BlockDocument::getContent)
+                .toList();
+        return summarizer.summarize(firstBlock.getContent(), following);
+    }
+
+    private void apply(ItemBoardSummary row, BoardSummary summary) {
+        row.setTodayWork(summary.todayWork());
+        row.setIssue(summary.issue());
+        row.setMemo(summary.memo());
+        row.setChecklistTotal(summary.checklistTotal());
+        row.setChecklistDone(summary.checklistDone());
+    }
+
+    private BoardSummary toSummary(ItemBoardSummary row) {
+        return new BoardSummary(row.getTodayWork(), row.getIssue(), row.getMemo(), row.getChecklistTotal(), row.getChecklistDone());
+    }
+
+    public record ConsistencyReport(
+            int checked,
+            int mismatched,
+            long missing,
+            boolean repaired,
+            List<UUID> mismatchedItemIds
+    ) {}
+}
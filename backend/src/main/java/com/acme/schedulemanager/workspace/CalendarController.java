@@ -0,0 +1,25 @@
+package com.acme.schedulemanager.workspace;
+
+import com.acme.schedulemanager.security.SecurityUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workspace/calendar")
+public class CalendarController {
+    private final WorkspaceService workspaceService;
+
+    public CalendarController(WorkspaceService workspaceService) {
+        this.workspaceService = workspaceService;
+    }
+
+    @GetMapping
+    public List<WorkspaceDtos.CalendarDayResponse> calendar(@RequestParam("from") LocalDate from, @RequestParam("to") LocalDate to) {
+        return workspaceService.calendar(SecurityUtils.principal().userId(), from, to);
+    }
+}
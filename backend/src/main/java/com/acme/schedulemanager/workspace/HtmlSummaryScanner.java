@@ -0,0 +1,401 @@
+package com.acme.schedulemanager.workspace;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 블록 HTML을 한 번만 훑어 보드 요약을 만든다. Jsoup {@code Element.text()}와 같은 공백 규칙을 따르며,
+ * 섹션마다 120자 예산이 차면 더 이상 텍스트를 모으지 않는다.
+ * 지원하지 않는 태그, 어긋난 중첩, 주석, 알 수 없는 엔티티를 만나면 {@code null}을 반환하고 호출자가 Jsoup으로 처리한다.
+ */
+final class HtmlSummaryScanner {
+    private static final int NO_SECTION = -1;
+    private static final int TODAY = 0;
+    private static final int ISSUE = 1;
+    private static final int MEMO = 2;
+    private static final int SECTION_BUDGET = BoardSummarizer.MAX_TEXT_LENGTH + 1;
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private static final String[] TAGS = {
+            "p", "h1", "h2", "h3", "h4", "h5", "h6", "ul", "ol", "li", "div", "blockquote", "hr",
+            "span", "a", "b", "strong", "i", "em", "u", "s", "strike", "mark", "code", "small", "sub", "sup",
+            "br", "img", "input"
+    };
+    private static final Set<String> BLOCK_TAGS = Set.of("p", "h1", "h2", "h3", "h4", "h5", "h6", "ul", "ol", "li", "div", "blockquote", "hr");
+    private static final Set<String> INLINE_ONLY_TAGS = Set.of("p", "h1", "h2", "h3", "h4", "h5", "h6");
+    private static final Set<String> VOID_TAGS = Set.of("br", "hr", "img", "input");
+    private static final Set<String> SECTION_HEADINGS = Set.of("h1", "h2", "h3", "h4");
+
+    private final String html;
+    private final int length;
+    private int pos;
+    private Frame[] frames = new Frame[8];
+    private int depth;
+    private int collecting;
+    private boolean pendingTail;
+    private int section = NO_SECTION;
+    private final StringBuilder[] sections = new StringBuilder[3];
+    private boolean firstSeen;
+    private String firstText;
+    private int total;
+    private int done;
+
+    private HtmlSummaryScanner(String html) {
+        this.html = html;
+        this.length = html.length();
+    }
+
+    static BoardSummary scan(String html) {
+        return new HtmlSummaryScanner(html).run();
+    }
+
+    private BoardSummary run() {
+        while (pos < length) {
+            boolean ok = html.charAt(pos) == '<' ? tag() : text();
+            if (!ok) return null;
+        }
+        if (depth != 0) return null;
+        String today = sectionText(TODAY);
+        if (today.isBlank()) today = firstText == null ? "" : shorten(firstText);
+        return new BoardSummary(today, sectionText(ISSUE), sectionText(MEMO), total, Math.min(done, total));
+    }
+
+    private boolean text() {
+        if (pendingTail) {
+            pendingTail = false;
+            tailSpace();
+        }
+        while (pos < length) {
+            char c = html.charAt(pos);
+            if (c == '<') return true;
+            int codePoint;
+            if (c == '&') {
+                codePoint = reference();
+                if (codePoint < 0) return false;
+            } else {
+                if (c < 0x20 && c != '\t' && c != '\n' && c != '\f' && c != '\r') return false;
+                codePoint = c;
+                pos++;
+            }
+            if (collecting > 0) append(codePoint);
+        }
+        return true;
+    }
+
+    private int reference() {
+        int start = pos + 1;
+        if (start >= length) {
+            pos = start;
+            return '&';
+        }
+        char next = html.charAt(start);
+        if (next == '#') return numericReference(start + 1);
+        if (!isAsciiLetter(next)) {
+            pos = start;
+            return '&';
+        }
+        int end = start;
+        while (end < length && (isAsciiLetter(html.charAt(end)) || Character.isLetter(html.charAt(end)))) end++;
+        while (end < length && isDigit(html.charAt(end))) end++;
+        boolean terminated = end < length && html.charAt(end) == ';';
+        int codePoint = namedReference(start, end - start, terminated);
+        if (codePoint < 0) return -1;
+        pos = terminated ? end + 1 : end;
+        return codePoint;
+    }
+
+    private int namedReference(int start, int nameLength, boolean terminated) {
+        if (matches(start, nameLength, "amp")) return '&';
+        if (matches(start, nameLength, "lt")) return '<';
+        if (matches(start, nameLength, "gt")) return '>';
+        if (matches(start, nameLength, "quot")) return '"';
+        if (matches(start, nameLength, "nbsp")) return 0xA0;
+        if (terminated && matches(start, nameLength, "apos")) return '\'';
+        return -1;
+    }
+
+    private int numericReference(int start) {
+        boolean hex = start < length && (html.charAt(start) == 'x' || html.charAt(start) == 'X');
+        int digitsStart = hex ? start + 1 : start;
+        int end = digitsStart;
+        int value = 0;
+        while (end < length && end - digitsStart < 7) {
+            int digit = digit(html.charAt(end), hex);
+            if (digit < 0) break;
+            value = value * (hex ? 16 : 10) + digit;
+            end++;
+        }
+        if (end == digitsStart || end >= length || html.charAt(end) != ';') return -1;
+        boolean printable = (value >= 0x20 && value < 0x7F) || (value >= 0xA0 && value < 0xD800) || (value >= 0xE000 && value <= 0x10FFFF);
+        if (!printable) return -1;
+        pos = end + 1;
+        return value;
+    }
+
+    private boolean tag() {
+        int start = pos + 1;
+        boolean closing = start < length && html.charAt(start) == '/';
+        int nameStart = closing ? start + 1 : start;
+        if (nameStart >= length || !isAsciiLetter(html.charAt(nameStart))) return false;
+        int nameEnd = nameStart;
+        while (nameEnd < length && (isAsciiLetter(html.charAt(nameEnd)) || isDigit(html.charAt(nameEnd)))) nameEnd++;
+        if (nameEnd >= length || !(isTagSpace(html.charAt(nameEnd)) || html.charAt(nameEnd) == '/' || html.charAt(nameEnd) == '>')) return false;
+        String name = knownTag(nameStart, nameEnd - nameStart);
+        if (name == null) return false;
+        int i = nameEnd;
+        boolean selfClosing = false;
+        while (true) {
+            while (i < length && isTagSpace(html.charAt(i))) i++;
+            if (i >= length) return false;
+            char c = html.charAt(i);
+            if (c == '>') break;
+            if (closing) return false;
+            if (c == '/') {
+                if (i + 1 >= length || html.charAt(i + 1) != '>') return false;
+                selfClosing = true;
+                i++;
+                break;
+            }
+            i = attribute(i);
+            if (i < 0) return false;
+        }
+        pos = i + 1;
+        return closing ? close(name) : open(name, selfClosing);
+    }
+
+    private int attribute(int i) {
+        if (html.charAt(i) == '=') return -1;
+        while (i < length) {
+            char c = html.charAt(i);
+            if (isTagSpace(c) || c == '/' || c == '>' || c == '=') break;
+            if (c == '"' || c == '\'' || c == '<') return -1;
+            i++;
+        }
+        int afterName = i;
+        while (i < length && isTagSpace(html.charAt(i))) i++;
+        if (i >= length || html.charAt(i) != '=') return afterName;
+        i++;
+        while (i < length && isTagSpace(html.charAt(i))) i++;
+        if (i >= length) return -1;
+        char quote = html.charAt(i);
+        if (quote == '"' || quote == '\'') {
+            int close = html.indexOf(quote, i + 1);
+            return close < 0 ? -1 : close + 1;
+        }
+        while (i < length) {
+            char c = html.charAt(i);
+            if (isTagSpace(c) || c == '>') return i;
+            if (c == '"' || c == '\'' || c == '<' || c == '=' || c == '`') return -1;
+            i++;
+        }
+        return -1;
+    }
+
+    private boolean open(String tag, boolean selfClosing) {
+        boolean isVoid = VOID_TAGS.contains(tag);
+        if (selfClosing && !isVoid) return false;
+        boolean block = BLOCK_TAGS.contains(tag);
+        if (depth > 0) {
+            String parent = frames[depth - 1].tag;
+            boolean inlineParent = !BLOCK_TAGS.contains(parent) || INLINE_ONLY_TAGS.contains(parent);
+            if (block && inlineParent) return false;
+            if (tag.equals("li") && !parent.equals("ul") && !parent.equals("ol")) return false;
+            if (tag.equals("a") && insideAnchor()) return false;
+        }
+        if (pendingTail) {
+            pendingTail = false;
+            if (!block) tailSpace();
+        }
+        if (block || tag.equals("br")) headSpace();
+        if (isVoid) {
+            pendingTail = block;
+            return true;
+        }
+        push(tag, block);
+        return true;
+    }
+
+    private boolean close(String tag) {
+        if (depth == 0 || !frames[depth - 1].tag.equals(tag)) return false;
+        pendingTail = false;
+        Frame frame = frames[--depth];
+        if (frame.collecting) {
+            collecting--;
+            finish(frame);
+        }
+        pendingTail = frame.block;
+        return true;
+    }
+
+    private void push(String tag, boolean block) {
+        if (depth == frames.length) frames = Arrays.copyOf(frames, depth * 2);
+        Frame frame = frames[depth];
+        if (frame == null) frame = frames[depth] = new Frame();
+        boolean top = depth == 0;
+        boolean li = tag.equals("li");
+        boolean heading = top && SECTION_HEADINGS.contains(tag);
+        boolean first = !firstSeen && (li || tag.equals("p"));
+        if (first) firstSeen = true;
+        int lineSection = NO_SECTION;
+        int cap = 0;
+        if (li || heading) cap = UNBOUNDED;
+        if (top && !heading && section != NO_SECTION && sectionLength(section) < SECTION_BUDGET) {
+            lineSection = section;
+            int used = sectionLength(section);
+            int remaining = SECTION_BUDGET - used - (used > 0 ? 3 : 0) + 2;
+            cap = Math.max(cap, Math.max(remaining, 1));
+        }
+        if (first) cap = Math.max(cap, SECTION_BUDGET + 2);
+        frame.reset(tag, block, li, heading, first, lineSection, cap);
+        if (frame.collecting) collecting++;
+        depth++;
+    }
+
+    private void finish(Frame frame) {
+        StringBuilder text = frame.text;
+        if (frame.li && (contains(text, "[ ]") || contains(text, "[x]") || contains(text, "☐") || contains(text, "☑"))) {
+            total++;
+            if (contains(text, "[x]") || contains(text, "☑")) done++;
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) == ' ') start++;
+        while (end > start && text.charAt(end - 1) == ' ') end--;
+        if (frame.first) firstText = text.substring(start, end);
+        if (frame.heading && frame.nonBlank) {
+            if (contains(text, "요청내용") || contains(text, "오늘의 업무")) section = TODAY;
+            else if (contains(text, "이슈")) section = ISSUE;
+            else if (contains(text, "메모")) section = MEMO;
+            else section = NO_SECTION;
+        }
+        if (frame.lineSection != NO_SECTION && frame.nonBlank) {
+            StringBuilder target = sections[frame.lineSection];
+            if (target == null) target = sections[frame.lineSection] = new StringBuilder(SECTION_BUDGET + 8);
+            if (!target.isEmpty()) target.append(" / ");
+            target.append(text, start, end);
+        }
+    }
+
+    private void append(int codePoint) {
+        for (int i = 0; i < depth; i++) {
+            Frame frame = frames[i];
+            if (!frame.collecting || frame.full) continue;
+            StringBuilder text = frame.text;
+            if (isWhitespace(codePoint)) {
+                if (text.isEmpty() || text.charAt(text.length() - 1) != ' ') text.append(' ');
+            } else if (codePoint != 8203 && codePoint != 173) {
+                text.appendCodePoint(codePoint);
+                if (!Character.isWhitespace(codePoint)) frame.nonBlank = true;
+            }
+            if (frame.nonBlank && text.length() >= frame.cap) frame.full = true;
+        }
+    }
+
+    private void headSpace() {
+        for (int i = 0; i < depth; i++) {
+            Frame frame = frames[i];
+            if (!frame.collecting || frame.full) continue;
+            StringBuilder text = frame.text;
+            if (!text.isEmpty() && text.charAt(text.length() - 1) != ' ') text.append(' ');
+        }
+    }
+
+    private void tailSpace() {
+        for (int i = 0; i < depth; i++) {
+            Frame frame = frames[i];
+            if (!frame.collecting || frame.full) continue;
+            StringBuilder text = frame.text;
+            if (text.isEmpty() || text.charAt(text.length() - 1) != ' ') text.append(' ');
+        }
+    }
+
+    private boolean insideAnchor() {
+        for (int i = 0; i < depth; i++) {
+            if (frames[i].tag.equals("a")) return true;
+        }
+        return false;
+    }
+
+    private String sectionText(int index) {
+        StringBuilder text = sections[index];
+        if (text == null) return "";
+        return text.length() > BoardSummarizer.MAX_TEXT_LENGTH
+                ? text.substring(0, BoardSummarizer.MAX_TEXT_LENGTH) + "..."
+                : text.toString();
+    }
+
+    private int sectionLength(int index) {
+        return sections[index] == null ? 0 : sections[index].length();
+    }
+
+    private static String shorten(String text) {
+        return text.length() > BoardSummarizer.MAX_TEXT_LENGTH ? text.substring(0, BoardSummarizer.MAX_TEXT_LENGTH) + "..." : text;
+    }
+
+    private String knownTag(int start, int nameLength) {
+        for (String tag : TAGS) {
+            if (tag.length() == nameLength && html.regionMatches(true, start, tag, 0, nameLength)) return tag;
+        }
+        return null;
+    }
+
+    private boolean matches(int start, int nameLength, String name) {
+        return name.length() == nameLength && html.startsWith(name, start);
+    }
+
+    private static boolean contains(StringBuilder text, String token) {
+        return text.indexOf(token) >= 0;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == 0xA0;
+    }
+
+    private static int digit(char c, boolean hex) {
+        if (isDigit(c)) return c - '0';
+        if (!hex) return -1;
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static boolean isTagSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static final class Frame {
+        private final StringBuilder text = new StringBuilder(64);
+        private String tag;
+        private boolean block;
+        private boolean li;
+        private boolean heading;
+        private boolean first;
+        private int lineSection;
+        private int cap;
+        private boolean collecting;
+        private boolean nonBlank;
+        private boolean full;
+
+        private void reset(String tag, boolean block, boolean li, boolean heading, boolean first, int lineSection, int cap) {
+            this.tag = tag;
+            this.block = block;
+            this.li = li;
+            this.heading = heading;
+            this.first = first;
+            this.lineSection = lineSection;
+            this.cap = cap;
+            this.collecting = cap > 0;
+            this.nonBlank = false;
+            this.full = false;
+            text.setLength(0);
+        }
+    }
+}
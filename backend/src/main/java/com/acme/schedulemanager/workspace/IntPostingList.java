@@ -0,0 +1,29 @@
+package com.acme.schedulemanager.workspace;
+
+import java.util.Arrays;
+
+final class IntPostingList {
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    long estimatedBytes() {
+        return 16L + 4L * values.length;
+    }
+}
@@ -0,0 +1,6 @@
+package com.acme.schedulemanager.workspace;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ItemContentChangedEvent(UUID userId, UUID itemId, LocalDate dueDate) {}
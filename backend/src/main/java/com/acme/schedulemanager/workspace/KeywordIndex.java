@@ -0,0 +1,246 @@
+package com.acme.schedulemanager.workspace;
+
+import com.acme.schedulemanager.domain.entity.DayNote;
+import com.acme.schedulemanager.domain.entity.ItemSearchText;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import com.acme.schedulemanager.domain.repo.DayNoteRepository;
+import com.acme.schedulemanager.domain.repo.ItemSearchTextRepository;
+import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Component
+public class KeywordIndex implements MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(KeywordIndex.class);
+
+    private final WorkspaceItemRepository itemRepo;
+    private final ItemSearchTextRepository searchTextRepo;
+    private final DayNoteRepository dayNoteRepo;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, UserKeywordIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock registryLock = new ReentrantLock();
+    private final Counter loads;
+    private final Counter evictions;
+
+    @Value("${app.search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.search.index.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${app.search.index.max-age-ms:600000}")
+    private long maxAgeMillis;
+
+    public KeywordIndex(
+            WorkspaceItemRepository itemRepo,
+            ItemSearchTextRepository searchTextRepo,
+            DayNoteRepository dayNoteRepo,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this.itemRepo = itemRepo;
+        this.searchTextRepo = searchTextRepo;
+        this.dayNoteRepo = dayNoteRepo;
+        this.objectMapper = objectMapper;
+        this.loads = Counter.builder("search.index.loads").register(meterRegistry);
+        this.evictions = Counter.builder("search.index.evictions").register(meterRegistry);
+        Gauge.builder("search.index.bytes", this, index -> index.totalBytes()).register(meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(WorkspaceEventStream.CHANNEL));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<UUID> search(UUID userId, String keyword, LocalDate dueDate, int limit) {
+        return acquire(userId).search(keyword, dueDate, limit);
+    }
+
+    List<UserKeywordIndex.Hit> rank(UUID userId, String keyword, LocalDate dueDate, UserKeywordIndex.Hit after, int limit) {
+        return acquire(userId).rank(keyword, dueDate, after, limit);
+    }
+
+    public void invalidate(UUID userId) {
+        registryLock.lock();
+        try {
+            indexes.remove(userId);
+        } finally {
+            registryLock.unlock();
+        }
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        refreshItem(event.userId(), event.itemId());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ItemContentChangedEvent event) {
+        refreshItem(event.userId(), event.itemId());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDayNoteChanged(DayNoteChangedEvent event) {
+        refreshDayNote(event.userId(), event.dueDate());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(WorkspaceBulkChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    /**
+     * 다른 노드에서 커밋된 변경을 {@code workspace:events} 채널로 받아 이 노드의 색인에도 반영한다.
+     * 자기 노드가 보낸 메시지는 트랜잭션 이벤트로 이미 반영했으므로 건너뛴다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            WorkspaceEventStream.StreamMessage payload = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), WorkspaceEventStream.StreamMessage.class);
+            if (WorkspaceEventStream.NODE_ID.equals(payload.origin()) || registered(payload.userId()) == null) return;
+            switch (payload.type()) {
+                case "item", "content" -> {
+                    if (payload.itemId() == null) invalidate(payload.userId());
+                    else refreshItem(payload.userId(), payload.itemId());
+                }
+                case "day-note" -> refreshDayNote(payload.userId(), payload.dueDate());
+                default -> invalidate(payload.userId());
+            }
+        } catch (Exception e) {
+            log.warn("search index remote update failed: {}", e.getMessage());
+        }
+    }
+
+    private void refreshItem(UUID userId, UUID itemId) {
+        UserKeywordIndex index = registered(userId);
+        if (index == null) return;
+        try {
+            WorkspaceItem item = itemRepo.findById(itemId).filter(found -> found.getUserId().equals(userId)).orElse(null);
+            if (item == null) {
+                index.removeItem(itemId);
+                return;
+            }
+            String body = searchTextRepo.findById(itemId).map(ItemSearchText::getBody).orElse("");
+            index.putItem(item.getId(), item.getDueDate(), item.getUpdatedAt(), item.getTitle(), body);
+        } catch (Exception e) {
+            log.warn("search index update failed: {}", e.getMessage());
+            invalidate(userId);
+        }
+    }
+
+    private void refreshDayNote(UUID userId, LocalDate dueDate) {
+        UserKeywordIndex index = registered(userId);
+        if (index == null) return;
+        try {
+            String text = dayNoteRepo.findByUserIdAndDueDate(userId, dueDate).map(this::noteText).orElse("");
+            index.putDayNote(dueDate, text);
+        } catch (Exception e) {
+            log.warn("search index update failed: {}", e.getMessage());
+            invalidate(userId);
+        }
+    }
+
+    private UserKeywordIndex registered(UUID userId) {
+        registryLock.lock();
+        try {
+            return indexes.get(userId);
+        } finally {
+            registryLock.unlock();
+        }
+    }
+
+    private UserKeywordIndex acquire(UUID userId) {
+        UserKeywordIndex index;
+        registryLock.lock();
+        try {
+            index = indexes.get(userId);
+            if (index != null && index.isLoaded() && System.currentTimeMillis() - index.loadedAt() > maxAgeMillis) {
+                indexes.remove(userId);
+                index = null;
+            }
+            if (index == null) {
+                index = new UserKeywordIndex();
+                indexes.put(userId, index);
+            }
+        } finally {
+            registryLock.unlock();
+        }
+        if (!index.isLoaded()) {
+            index.loadIfNeeded(target -> load(userId, target));
+            evictOverBudget(userId);
+        }
+        return index;
+    }
+
+    private void load(UUID userId, UserKeywordIndex index) {
+        Map<UUID, String> bodies = searchTextRepo.findByUserId(userId).stream()
+                .collect(Collectors.toMap(ItemSearchText::getItemId, ItemSearchText::getBody));
+        for (WorkspaceItem item : itemRepo.findByUserIdOrderByUpdatedAtDesc(userId)) {
+            index.putItem(item.getId(), item.getDueDate(), item.getUpdatedAt(), item.getTitle(), bodies.getOrDefault(item.getId(), ""));
+        }
+        for (DayNote note : dayNoteRepo.findByUserId(userId)) {
+            index.putDayNote(note.getDueDate(), noteText(note));
+        }
+        loads.increment();
+    }
+
+    private void evictOverBudget(UUID keep) {
+        registryLock.lock();
+        try {
+            long total = totalBytes();
+            Iterator<Map.Entry<UUID, UserKeywordIndex>> it = indexes.entrySet().iterator();
+            while (total > maxBytes && it.hasNext()) {
+                Map.Entry<UUID, UserKeywordIndex> eldest = it.next();
+                if (eldest.getKey().equals(keep)) continue;
+                total -= eldest.getValue().estimatedBytes();
+                it.remove();
+                evictions.increment();
+            }
+        } finally {
+            registryLock.unlock();
+        }
+    }
+
+    private long totalBytes() {
+        registryLock.lock();
+        try {
+            long total = 0;
+            for (UserKeywordIndex index : indexes.values()) total += index.estimatedBytes();
+            return total;
+        } finally {
+            registryLock.unlock();
+        }
+    }
+
+    private String noteText(DayNote note) {
+        return note.getIssue() + " " + note.getMemo();
+    }
+}
@@ -0,0 +1,89 @@
+package com.acme.schedulemanager.workspace;
+
+import com.acme.schedulemanager.common.TransactionBatches;
+import com.acme.schedulemanager.domain.entity.BlockDocument;
+import com.acme.schedulemanager.domain.entity.ItemSearchText;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
+import com.acme.schedulemanager.domain.repo.ItemSearchTextRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class SearchTextService {
+    private static final Logger log = LoggerFactory.getLogger(SearchTextService.class);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final ItemSearchTextRepository searchTextRepo;
+    private final BlockDocumentRepository blockRepo;
+    private final BlockTextExtractor extractor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.search.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.search.batch-size:200}")
+    private int batchSize;
+
+    public SearchTextService(
+            ItemSearchTextRepository searchTextRepo,
+            BlockDocumentRepository blockRepo,
+            BlockTextExtractor extractor,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.searchTextRepo = searchTextRepo;
+        this.blockRepo = blockRepo;
+        this.extractor = extractor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    public void onContentChanged(ItemContentChangedEvent event) {
+        TransactionBatches.beforeCommit(this, event.itemId(), event.userId(), (itemId, userId) -> refresh(userId, itemId));
+    }
+
+    public void refresh(UUID userId, UUID itemId) {
+        String body = extractor.extract(blockRepo.findByItemIdOrderBySortOrderAsc(itemId).stream().map(BlockDocument::getContent).toList());
+        ItemSearchText row = searchTextRepo.findById(itemId).orElseGet(() -> {
+            ItemSearchText created = new ItemSearchText();
+            created.setItemId(itemId);
+            created.setUserId(userId);
+            return created;
+        });
+        row.setBody(body);
+        searchTextRepo.save(row);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) return;
+        try {
+            int created = backfill();
+            if (created > 0) log.info("search text backfill created {} rows", created);
+        } catch (Exception e) {
+            log.warn("search text backfill failed: {}", e.getMessage());
+        }
+    }
+
+    public int backfill() {
+        int created = 0;
+        UUID after = FIRST_ID;
+        while (true) {
+            List<WorkspaceItem> items = searchTextRepo.findItemsWithoutSearchText(after, Limit.of(batchSize));
+            if (items.isEmpty()) return created;
+            transactionTemplate.executeWithoutResult(status -> items.forEach(item -> refresh(item.getUserId(), item.getId())));
+            created += items.size();
+            after = items.get(items.size() - 1).getId();
+        }
+    }
+}
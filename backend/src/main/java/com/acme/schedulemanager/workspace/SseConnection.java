@@ -0,0 +1,58 @@
+package com.acme.schedulemanager.workspace;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class SseConnection {
+    private final SseEmitter emitter;
+    private final Queue<SseEmitter.SseEventBuilder> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    SseConnection(SseEmitter emitter, int capacity) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        return !closed.get() && queue.offer(event);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (Exception e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+}
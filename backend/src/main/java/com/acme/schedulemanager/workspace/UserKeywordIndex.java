@@ -0,0 +1,379 @@
+package com.acme.schedulemanager.workspace;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+final class UserKeywordIndex {
+    static final byte TITLE = 0;
+    static final byte BODY = 1;
+    static final byte NOTE = 2;
+
+    private static final int COMPACT_MIN_REMOVED = 64;
+    private static final long DOC_OVERHEAD_BYTES = 96L;
+    private static final long ITEM_OVERHEAD_BYTES = 128L;
+    private static final double TITLE_SCORE = 10.0;
+    private static final double TITLE_PREFIX_BONUS = 5.0;
+    private static final double BODY_SCORE = 3.0;
+    private static final double BODY_OCCURRENCE_SCORE = 0.5;
+    private static final int MAX_SCORED_OCCURRENCES = 10;
+    private static final double NOTE_SCORE = 1.0;
+    private static final int SNIPPET_CONTEXT = 40;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, IntPostingList> postings = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<UUID, ItemEntry> items = new HashMap<>();
+    private final Map<LocalDate, Set<UUID>> itemsByDate = new HashMap<>();
+    private final Map<LocalDate, Integer> noteDocs = new HashMap<>();
+    private int removedDocs;
+    private volatile boolean loaded;
+    private volatile long loadedAt;
+    private volatile long estimatedBytes;
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC).replaceAll("\\s+", " ").trim();
+    }
+
+    static String fold(String normalized) {
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+
+    void loadIfNeeded(Consumer<UserKeywordIndex> loader) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) return;
+            loader.accept(this);
+            loadedAt = System.currentTimeMillis();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void putItem(UUID itemId, LocalDate dueDate, Instant updatedAt, String title, String body) {
+        lock.writeLock().lock();
+        try {
+            removeItemDocs(itemId);
+            ItemEntry entry = new ItemEntry(dueDate, updatedAt, addDoc(TITLE, itemId, null, title), addDoc(BODY, itemId, null, body));
+            items.put(itemId, entry);
+            if (dueDate != null) itemsByDate.computeIfAbsent(dueDate, d -> new HashSet<>()).add(itemId);
+            estimatedBytes += ITEM_OVERHEAD_BYTES;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeItem(UUID itemId) {
+        lock.writeLock().lock();
+        try {
+            removeItemDocs(itemId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void putDayNote(LocalDate dueDate, String text) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = noteDocs.remove(dueDate);
+            if (previous != null) removeDoc(previous);
+            int docId = addDoc(NOTE, null, dueDate, text);
+            if (docId >= 0) noteDocs.put(dueDate, docId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<UUID> search(String keyword, LocalDate dueDate, int limit) {
+        String query = fold(normalize(keyword));
+        lock.readLock().lock();
+        try {
+            Set<UUID> matched = new LinkedHashSet<>();
+            if (query.isEmpty()) {
+                matched.addAll(items.keySet());
+            } else {
+                forEachMatch(query, doc -> {
+                    if (doc.kind() == NOTE) {
+                        matched.addAll(itemsByDate.getOrDefault(doc.noteDate(), Set.of()));
+                    } else {
+                        matched.add(doc.itemId());
+                    }
+                });
+            }
+            return matched.stream()
+                    .filter(itemId -> dueDate == null || dueDate.equals(items.get(itemId).dueDate()))
+                    .sorted(Comparator.comparing((UUID itemId) -> items.get(itemId), ItemEntry.ORDER))
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Hit> rank(String keyword, LocalDate dueDate, Hit after, int limit) {
+        String query = fold(normalize(keyword));
+        if (query.isEmpty()) return List.of();
+        lock.readLock().lock();
+        try {
+            Map<UUID, Double> scores = new HashMap<>();
+            forEachMatch(query, doc -> {
+                if (doc.kind() == NOTE) {
+                    for (UUID itemId : itemsByDate.getOrDefault(doc.noteDate(), Set.of())) {
+                        scores.merge(itemId, NOTE_SCORE, Double::sum);
+                    }
+                } else {
+                    scores.merge(doc.itemId(), score(doc, query), Double::sum);
+                }
+            });
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Hit.RANK.reversed());
+            scores.forEach((itemId, score) -> {
+                if (dueDate != null && !dueDate.equals(items.get(itemId).dueDate())) return;
+                Hit hit = new Hit(itemId, score, null);
+                if (after != null && Hit.RANK.compare(hit, after) <= 0) return;
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (Hit.RANK.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            });
+            return top.stream()
+                    .sorted(Hit.RANK)
+                    .map(hit -> new Hit(hit.itemId(), hit.score(), snippet(hit.itemId(), query)))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스를 쓰지 않는 검색에서 제목·본문 원문에 색인 검색과 같은 점수·스니펫 규칙을 적용한다.
+     * {@code query}는 {@code fold(normalize(keyword))}이며, 둘 다 일치하지 않으면 null을 반환한다.
+     */
+    static Hit match(UUID itemId, String title, String body, String query) {
+        if (query.isEmpty()) return null;
+        Doc titleDoc = standaloneDoc(TITLE, itemId, title);
+        Doc bodyDoc = standaloneDoc(BODY, itemId, body);
+        boolean titleHit = titleDoc != null && titleDoc.folded().contains(query);
+        boolean bodyHit = bodyDoc != null && bodyDoc.folded().contains(query);
+        if (!titleHit && !bodyHit) return null;
+        double score = (titleHit ? score(titleDoc, query) : 0) + (bodyHit ? score(bodyDoc, query) : 0);
+        return new Hit(itemId, score, highlight(bodyHit ? bodyDoc : titleDoc, query));
+    }
+
+    private static Doc standaloneDoc(byte kind, UUID itemId, String raw) {
+        String text = normalize(raw);
+        return text.isEmpty() ? null : new Doc(kind, itemId, null, text, fold(text));
+    }
+
+    private static double score(Doc doc, String query) {
+        if (doc.kind() == TITLE) {
+            double score = TITLE_SCORE;
+            if (doc.folded().startsWith(query)) score += TITLE_PREFIX_BONUS;
+            if (doc.folded().equals(query)) score += TITLE_PREFIX_BONUS;
+            return score;
+        }
+        return BODY_SCORE + BODY_OCCURRENCE_SCORE * Math.min(occurrences(doc.folded(), query), MAX_SCORED_OCCURRENCES);
+    }
+
+    private static int occurrences(String text, String query) {
+        int count = 0;
+        for (int idx = text.indexOf(query); idx >= 0; idx = text.indexOf(query, idx + query.length())) count++;
+        return count;
+    }
+
+    private String snippet(UUID itemId, String query) {
+        ItemEntry entry = items.get(itemId);
+        Doc body = entry.bodyDoc() < 0 ? null : docs.get(entry.bodyDoc());
+        if (body != null && body.folded().contains(query)) return highlight(body, query);
+        Integer noteDoc = entry.dueDate() == null ? null : noteDocs.get(entry.dueDate());
+        Doc note = noteDoc == null ? null : docs.get(noteDoc);
+        if (note != null && note.folded().contains(query)) return highlight(note, query);
+        Doc title = entry.titleDoc() < 0 ? null : docs.get(entry.titleDoc());
+        return title == null ? "" : highlight(title, query);
+    }
+
+    private static String highlight(Doc doc, String query) {
+        String source = doc.text().length() == doc.folded().length() ? doc.text() : doc.folded();
+        int idx = doc.folded().indexOf(query);
+        if (idx < 0) return escape(source.substring(0, Math.min(source.length(), SNIPPET_CONTEXT * 2)));
+        int start = Math.max(0, idx - SNIPPET_CONTEXT);
+        int end = Math.min(source.length(), idx + query.length() + SNIPPET_CONTEXT);
+        return (start > 0 ? "…" : "")
+                + escape(source.substring(start, idx))
+                + "<mark>" + escape(source.substring(idx, idx + query.length())) + "</mark>"
+                + escape(source.substring(idx + query.length(), end))
+                + (end < source.length() ? "…" : "");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private void forEachMatch(String query, Consumer<Doc> consumer) {
+        int[] keys = grams(query, query.length() == 1);
+        IntPostingList[] lists = new IntPostingList[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            lists[i] = postings.get(keys[i]);
+            if (lists[i] == null) return;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(IntPostingList::size));
+        IntPostingList smallest = lists[0];
+        for (int i = 0; i < smallest.size(); i++) {
+            int docId = smallest.get(i);
+            if (!containsAll(lists, docId)) continue;
+            Doc doc = docs.get(docId);
+            if (doc != null && doc.folded().contains(query)) consumer.accept(doc);
+        }
+    }
+
+    private boolean containsAll(IntPostingList[] lists, int docId) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(docId)) return false;
+        }
+        return true;
+    }
+
+    private int addDoc(byte kind, UUID itemId, LocalDate noteDate, String raw) {
+        String text = normalize(raw);
+        if (text.isEmpty()) return -1;
+        int docId = docs.size();
+        Doc doc = new Doc(kind, itemId, noteDate, text, fold(text));
+        docs.add(doc);
+        index(docId, doc);
+        estimatedBytes += DOC_OVERHEAD_BYTES + doc.estimatedBytes();
+        return docId;
+    }
+
+    private void index(int docId, Doc doc) {
+        for (int key : grams(doc.folded(), true)) {
+            IntPostingList list = postings.get(key);
+            if (list == null) {
+                list = new IntPostingList();
+                postings.put(key, list);
+                estimatedBytes += DOC_OVERHEAD_BYTES;
+            }
+            long before = list.estimatedBytes();
+            list.add(docId);
+            estimatedBytes += list.estimatedBytes() - before;
+        }
+    }
+
+    private void removeItemDocs(UUID itemId) {
+        ItemEntry entry = items.remove(itemId);
+        if (entry == null) return;
+        if (entry.dueDate() != null) {
+            Set<UUID> sameDate = itemsByDate.get(entry.dueDate());
+            if (sameDate != null) {
+                sameDate.remove(itemId);
+                if (sameDate.isEmpty()) itemsByDate.remove(entry.dueDate());
+            }
+        }
+        removeDoc(entry.titleDoc());
+        removeDoc(entry.bodyDoc());
+        estimatedBytes -= ITEM_OVERHEAD_BYTES;
+    }
+
+    private void removeDoc(int docId) {
+        if (docId < 0) return;
+        Doc doc = docs.set(docId, null);
+        if (doc == null) return;
+        removedDocs++;
+        estimatedBytes -= DOC_OVERHEAD_BYTES + doc.estimatedBytes();
+    }
+
+    private void compactIfNeeded() {
+        if (removedDocs < COMPACT_MIN_REMOVED || removedDocs * 2 < docs.size()) return;
+        List<Doc> live = docs.stream().filter(doc -> doc != null).toList();
+        Map<UUID, ItemEntry> previousItems = new HashMap<>(items);
+        docs.clear();
+        postings.clear();
+        items.clear();
+        noteDocs.clear();
+        removedDocs = 0;
+        estimatedBytes = 0;
+        Map<UUID, int[]> itemDocs = new HashMap<>();
+        for (Doc doc : live) {
+            int docId = docs.size();
+            docs.add(doc);
+            index(docId, doc);
+            estimatedBytes += DOC_OVERHEAD_BYTES + doc.estimatedBytes();
+            if (doc.kind() == NOTE) {
+                noteDocs.put(doc.noteDate(), docId);
+            } else {
+                itemDocs.computeIfAbsent(doc.itemId(), id -> new int[]{-1, -1})[doc.kind()] = docId;
+            }
+        }
+        previousItems.forEach((itemId, entry) -> {
+            int[] ids = itemDocs.getOrDefault(itemId, new int[]{-1, -1});
+            items.put(itemId, new ItemEntry(entry.dueDate(), entry.updatedAt(), ids[TITLE], ids[BODY]));
+            estimatedBytes += ITEM_OVERHEAD_BYTES;
+        });
+    }
+
+    private static int[] grams(String text, boolean withUnigrams) {
+        int length = text.length();
+        int[] keys = new int[(withUnigrams ? length : 0) + Math.max(0, length - 1)];
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (withUnigrams) keys[n++] = c << 16;
+            if (i + 1 < length) keys[n++] = (c << 16) | text.charAt(i + 1);
+        }
+        Arrays.sort(keys, 0, n);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || keys[distinct - 1] != keys[i]) keys[distinct++] = keys[i];
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    record Doc(byte kind, UUID itemId, LocalDate noteDate, String text, String folded) {
+        long estimatedBytes() {
+            return 2L * text.length() + (folded == text ? 0 : 2L * folded.length());
+        }
+    }
+
+    record Hit(UUID itemId, double score, String snippet) {
+        static final Comparator<Hit> RANK = Comparator
+                .comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::itemId);
+    }
+
+    record ItemEntry(LocalDate dueDate, Instant updatedAt, int titleDoc, int bodyDoc) {
+        static final Comparator<ItemEntry> ORDER = Comparator
+                .comparing(ItemEntry::dueDate, Comparator.nullsLast(Comparator.<LocalDate>reverseOrder()))
+                .thenComparing(ItemEntry::updatedAt, Comparator.nullsLast(Comparator.<Instant>reverseOrder()));
+    }
+}
@@ -0,0 +1,5 @@
+package com.acme.schedulemanager.workspace;
+
+import java.util.UUID;
+
+public record WorkspaceBulkChangedEvent(UUID userId) {}
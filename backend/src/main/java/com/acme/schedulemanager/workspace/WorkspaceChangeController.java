@@ -0,0 +1,31 @@
+package com.acme.schedulemanager.workspace;
+
+import com.acme.schedulemanager.security.SecurityUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/workspace")
+public class WorkspaceChangeController {
+    private final WorkspaceChangeService changeService;
+    private final WorkspaceEventStream eventStream;
+
+    public WorkspaceChangeController(WorkspaceChangeService changeService, WorkspaceEventStream eventStream) {
+        this.changeService = changeService;
+        this.eventStream = eventStream;
+    }
+
+    @GetMapping("/changes")
+    public WorkspaceDtos.ChangesResponse changes(@RequestParam(value = "since", required = false) String since) {
+        return changeService.changes(SecurityUtils.principal().userId(), since);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events() {
+        return eventStream.open(SecurityUtils.principal().userId());
+    }
+}
@@ -0,0 +1,190 @@
+package com.acme.schedulemanager.workspace;
+
+import com.acme.schedulemanager.domain.entity.DayNote;
+import com.acme.schedulemanager.domain.entity.DeletedItem;
+import com.acme.schedulemanager.domain.entity.ItemBoardSummary;
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import com.acme.schedulemanager.domain.repo.DayNoteRepository;
+import com.acme.schedulemanager.domain.repo.DeletedItemRepository;
+import com.acme.schedulemanager.domain.repo.ItemBoardSummaryRepository;
+import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class WorkspaceChangeService {
+    private static final Logger log = LoggerFactory.getLogger(WorkspaceChangeService.class);
+    private static final UUID NIL = new UUID(0L, 0L);
+
+    private final WorkspaceItemRepository itemRepo;
+    private final DayNoteRepository dayNoteRepo;
+    private final ItemBoardSummaryRepository summaryRepo;
+    private final DeletedItemRepository deletedItemRepo;
+
+    @Value("${app.changes.max-rows:1000}")
+    private int maxRows;
+
+    @Value("${app.changes.safety-lag-seconds:5}")
+    private long safetyLagSeconds;
+
+    @Value("${app.changes.tombstone-retention-days:30}")
+    private long tombstoneRetentionDays;
+
+    public WorkspaceChangeService(
+            WorkspaceItemRepository itemRepo,
+            DayNoteRepository dayNoteRepo,
+            ItemBoardSummaryRepository summaryRepo,
+            DeletedItemRepository deletedItemRepo
+    ) {
+        this.itemRepo = itemRepo;
+        this.dayNoteRepo = dayNoteRepo;
+        this.summaryRepo = summaryRepo;
+        this.deletedItemRepo = deletedItemRepo;
+    }
+
+    @Transactional
+    public void recordDeletion(UUID userId, WorkspaceItem item) {
+        deletedItemRepo.recordSubtree(userId, item.getPath());
+    }
+
+    @Transactional(readOnly = true)
+    public WorkspaceDtos.ChangesResponse changes(UUID userId, String cursor) {
+        Instant now = Instant.now();
+        boolean initial = cursor == null || cursor.isBlank();
+        Cursor since = initial ? Cursor.start() : decodeCursor(cursor);
+        if (!initial && since.oldest().isBefore(now.minus(Duration.ofDays(tombstoneRetentionDays)))) {
+            return new WorkspaceDtos.ChangesResponse(List.of(), List.of(), List.of(), List.of(), null, false, true);
+        }
+
+        Limit limit = Limit.of(maxRows + 1);
+        List<WorkspaceItem> items = itemRepo.findChangesAfter(userId, since.items().at(), uuid(since.items()), limit);
+        List<DayNote> notes = dayNoteRepo.findChangesAfter(userId, since.notes().at(), uuid(since.notes()), limit);
+        List<ItemBoardSummary> summaries = summaryRepo.findChangesAfter(userId, since.summaries().at(), uuid(since.summaries()), limit);
+        List<DeletedItem> deleted = initial
+                ? List.of()
+                : deletedItemRepo.findChangesAfter(userId, since.deleted().at(), sequence(since.deleted()), limit);
+
+        Instant safe = now.minusSeconds(safetyLagSeconds).truncatedTo(ChronoUnit.MICROS);
+        Cursor next = new Cursor(
+                advance(items, WorkspaceItem::getUpdatedAt, WorkspaceItem::getId, since.items(), safe),
+                advance(notes, DayNote::getUpdatedAt, DayNote::getId, since.notes(), safe),
+                advance(summaries, ItemBoardSummary::getUpdatedAt, ItemBoardSummary::getItemId, since.summaries(), safe),
+                advance(deleted, DeletedItem::getDeletedAt, DeletedItem::getId, since.deleted(), safe)
+        );
+        boolean hasMore = items.size() > maxRows || notes.size() > maxRows || summaries.size() > maxRows || deleted.size() > maxRows;
+
+        return new WorkspaceDtos.ChangesResponse(
+                head(items).stream()
+                        .map(item -> new WorkspaceDtos.ItemResponse(item.getId(), item.getParentId(), item.getTitle(), item.getStatus(), item.getDueDate(), item.getTemplateType(), item.getUpdatedAt()))
+                        .toList(),
+                head(notes).stream()
+                        .map(note -> new WorkspaceDtos.DayNoteChange(note.getDueDate(), note.getIssue(), note.getMemo(), note.getUpdatedAt()))
+                        .toList(),
+                head(summaries).stream()
+                        .map(s -> new WorkspaceDtos.BoardSummaryChange(s.getItemId(), s.getTodayWork(), s.getIssue(), s.getMemo(), s.getChecklistTotal(), s.getChecklistDone(), s.getUpdatedAt()))
+                        .toList(),
+                head(deleted).stream().map(DeletedItem::getItemId).distinct().toList(),
+                encodeCursor(next),
+                hasMore,
+                false
+        );
+    }
+
+    @Scheduled(cron = "${app.changes.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = deletedItemRepo.purgeBefore(Instant.now().minus(Duration.ofDays(tombstoneRetentionDays)));
+        if (purged > 0) log.info("purged {} deleted item tombstones", purged);
+    }
+
+    /**
+     * 스트림마다 다음 위치를 정한다. 잘린 스트림은 마지막으로 보낸 행의 (시각, ID) 다음부터 이어서 읽으므로
+     * 같은 시각의 행이 한 페이지보다 많아도 커서가 앞으로 나아간다. 안전 지연보다 최근인 위치로는 옮기지 않는다.
+     */
+    private <T> Position advance(List<T> rows, Function<T, Instant> timestamp, Function<T, Object> id, Position from, Instant safe) {
+        if (rows.size() > maxRows) {
+            T last = rows.get(maxRows - 1);
+            Instant at = timestamp.apply(last);
+            if (at.isBefore(safe)) return new Position(at, id.apply(last).toString());
+        }
+        return safe.isAfter(from.at()) ? new Position(safe, null) : from;
+    }
+
+    private <T> List<T> head(List<T> rows) {
+        return rows.size() > maxRows ? rows.subList(0, maxRows) : rows;
+    }
+
+    private static UUID uuid(Position position) {
+        return position.afterId() == null ? NIL : UUID.fromString(position.afterId());
+    }
+
+    private static long sequence(Position position) {
+        return position.afterId() == null ? 0L : Long.parseLong(position.afterId());
+    }
+
+    private String encodeCursor(Cursor cursor) {
+        String raw = String.join(",", cursor.items().encode(), cursor.notes().encode(), cursor.summaries().encode(), cursor.deleted().encode());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", -1);
+            if (parts.length == 1) {
+                Position legacy = new Position(Instant.parse(parts[0]), null);
+                return new Cursor(legacy, legacy, legacy, legacy);
+            }
+            if (parts.length != 4) throw new IllegalArgumentException();
+            Cursor decoded = new Cursor(Position.decode(parts[0]), Position.decode(parts[1]), Position.decode(parts[2]), Position.decode(parts[3]));
+            uuid(decoded.items());
+            uuid(decoded.notes());
+            uuid(decoded.summaries());
+            sequence(decoded.deleted());
+            return decoded;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 변경 커서입니다.");
+        }
+    }
+
+    private record Position(Instant at, String afterId) {
+        String encode() {
+            return afterId == null ? at.toString() : at + "/" + afterId;
+        }
+
+        static Position decode(String raw) {
+            int slash = raw.indexOf('/');
+            return slash < 0
+                    ? new Position(Instant.parse(raw), null)
+                    : new Position(Instant.parse(raw.substring(0, slash)), raw.substring(slash + 1));
+        }
+    }
+
+    private record Cursor(Position items, Position notes, Position summaries, Position deleted) {
+        static Cursor start() {
+            Position epoch = new Position(Instant.EPOCH, null);
+            return new Cursor(epoch, epoch, epoch, epoch);
+        }
+
+        Instant oldest() {
+            Instant oldest = items.at();
+            for (Position position : List.of(notes, summaries, deleted)) {
+                if (position.at().isBefore(oldest)) oldest = position.at();
+            }
+            return oldest;
+        }
+    }
+}
@@ -27,9 +27,15 @@ public class WorkspaceController {
     @GetMapping
     public List<WorkspaceDtos.ItemResponse> list(
             @RequestParam(value = "q", required = false) String q,
-            @RequestParam(value = "dueDate", required = false) LocalDate dueDate
+            @RequestParam(value = "dueDate", required = false) LocalDate dueDate,
+            @RequestParam(value = "tags", required = false) List<UUID> tags,
+            @RequestParam(value = "tagMode", defaultValue = "any") String tagMode
     ) {
         UUID userId = SecurityUtils.principal().userId();
+        if (tags != null && !tags.isEmpty()) {
+            if ((q == null || q.isBlank()) && dueDate == null) return workspaceService.findByTags(userId, tags, tagMode);
+            return workspaceService.filterByTags(userId, list(q, dueDate, null, tagMode), tags, tagMode);
+        }
         if (q != null && !q.isBlank() && dueDate != null) {
             return workspaceService.searchByDate(userId, q, dueDate);
         }
@@ -42,6 +48,44 @@ public class WorkspaceController {
         return workspaceService.findAll(userId);
     }
 
+    @GetMapping("/page")
+    public WorkspaceDtos.ItemPageResponse page(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit
+    ) {
+        return workspaceService.findPage(SecurityUtils.principal().userId(), cursor, limit);
+    }
+
+    @GetMapping("/search")
+    public WorkspaceDtos.SearchPageResponse search(
+            @RequestParam("q") String q,
+            @RequestParam(value = "dueDate", required = false) LocalDate dueDate,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        return workspaceService.rankedSearch(SecurityUtils.principal().userId(), q, dueDate, cursor, limit);
+    }
+
+    @PostMapping("/bulk")
+    public WorkspaceDtos.BulkResponse bulk(@RequestBody WorkspaceDtos.BulkRequest request) {
+        return workspaceService.bulk(SecurityUtils.principal().userId(), request);
+    }
+
+    @GetMapping("/tree")
+    public List<WorkspaceDtos.TreeNodeResponse> tree(@RequestParam(value = "parentId", required = false) UUID parentId) {
+        return workspaceService.children(SecurityUtils.principal().userId(), parentId);
+    }
+
+    @GetMapping("/{id}/subtree")
+    public List<WorkspaceDtos.ItemResponse> subtree(@PathVariable UUID id) {
+        return workspaceService.subtree(SecurityUtils.principal().userId(), id);
+    }
+
+    @PostMapping("/{id}/move")
+    public WorkspaceDtos.ItemResponse move(@PathVariable UUID id, @RequestBody WorkspaceDtos.MoveRequest request) {
+        return workspaceService.move(SecurityUtils.principal().userId(), id, request);
+    }
+
     @PatchMapping("/{id}")
     public WorkspaceDtos.ItemResponse update(@PathVariable UUID id, @RequestBody WorkspaceDtos.ItemUpdateRequest request) {
         return workspaceService.update(SecurityUtils.principal().userId(), id, request);
@@ -59,7 +103,7 @@ public class WorkspaceController {
 
     @GetMapping("/recent")
     public List<WorkspaceDtos.ItemResponse> recent() {
-        return workspaceService.findAll(SecurityUtils.principal().userId()).stream().limit(10).toList();
+        return workspaceService.recent(SecurityUtils.principal().userId());
     }
 
     @GetMapping("/day-note")
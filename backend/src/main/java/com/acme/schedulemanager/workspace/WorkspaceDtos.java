@@ -5,12 +5,22 @@ import jakarta.validation.constraints.NotBlank;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class WorkspaceDtos {
     public record ItemRequest(@NotBlank String title, UUID parentId, LocalDate dueDate, String templateType) {}
     public record ItemUpdateRequest(String title, String status, LocalDate dueDate, String templateType, List<UUID> tagIds, UUID parentId) {}
     public record ItemResponse(UUID id, UUID parentId, String title, String status, LocalDate dueDate, String templateType, Instant updatedAt) {}
+    public record ItemPageResponse(List<ItemResponse> items, String nextCursor) {}
+    public record MoveRequest(UUID parentId) {}
+    public record BulkUpdate(UUID id, String title, String status, LocalDate dueDate, String templateType) {}
+    public record BulkRequest(List<ItemRequest> create, List<BulkUpdate> update, List<UUID> delete) {}
+    public record BulkResult(String operation, int index, UUID id, boolean success, String error) {}
+    public record BulkResponse(List<BulkResult> results) {}
+    public record TreeNodeResponse(ItemResponse item, long childCount) {}
+    public record SearchHitResponse(ItemResponse item, double score, String snippet) {}
+    public record SearchPageResponse(List<SearchHitResponse> hits, String nextCursor) {}
     public record BoardRowResponse(
             UUID id,
             UUID parentId,
@@ -25,6 +35,19 @@ public class WorkspaceDtos {
             int checklistDone
     ) {}
 
+    public record CalendarDayResponse(LocalDate date, long itemCount, Map<String, Long> statusCounts, long checklistTotal, long checklistDone) {}
+
     public record DayNoteResponse(LocalDate dueDate, String issue, String memo) {}
     public record DayNoteUpsertRequest(String issue, String memo) {}
+    public record DayNoteChange(LocalDate dueDate, String issue, String memo, Instant updatedAt) {}
+    public record BoardSummaryChange(UUID itemId, String todayWork, String issue, String memo, int checklistTotal, int checklistDone, Instant updatedAt) {}
+    public record ChangesResponse(
+            List<ItemResponse> items,
+            List<DayNoteChange> dayNotes,
+            List<BoardSummaryChange> summaries,
+            List<UUID> deletedItemIds,
+            String nextCursor,
+            boolean hasMore,
+            boolean resetRequired
+    ) {}
 }
@@ -0,0 +1,41 @@
+package com.acme.schedulemanager.workspace;
+
+import com.acme.schedulemanager.common.ApiMediaTypes;
+import com.acme.schedulemanager.security.AuthPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.OptionalLong;
+
+@Component
+public class WorkspaceETagInterceptor implements HandlerInterceptor {
+    private final WorkspaceVersion workspaceVersion;
+
+    @Value("${app.etag.enabled:true}")
+    private boolean enabled;
+
+    public WorkspaceETagInterceptor(WorkspaceVersion workspaceVersion) {
+        this.workspaceVersion = workspaceVersion;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !"GET".equals(request.getMethod())) return true;
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof AuthPrincipal principal)) return true;
+        OptionalLong version = workspaceVersion.current(principal.userId());
+        if (version.isEmpty()) return true;
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String variant = accept != null && accept.contains(ApiMediaTypes.RAW_CONTENT_JSON_VALUE) ? "-raw" : "";
+        String etag = "\"" + principal.userId() + "-" + version.getAsLong() + variant + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
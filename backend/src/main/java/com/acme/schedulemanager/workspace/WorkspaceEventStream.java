@@ -0,0 +1,201 @@
+package com.acme.schedulemanager.workspace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class WorkspaceEventStream implements MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(WorkspaceEventStream.class);
+    static final String CHANNEL = "workspace:events";
+    static final UUID NODE_ID = UUID.randomUUID();
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, Set<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final ExecutorService sender;
+    private final Counter dropped;
+
+    @Value("${app.stream.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${app.stream.max-connections-per-user:10}")
+    private int maxConnectionsPerUser;
+
+    public WorkspaceEventStream(
+            StringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${app.stream.sender-threads:4}") int senderThreads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        if (virtualThreads) {
+            this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-sender-", 1).factory());
+        } else {
+            AtomicInteger threadIndex = new AtomicInteger();
+            this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+                Thread thread = new Thread(runnable, "sse-sender-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.dropped = Counter.builder("workspace.stream.dropped").register(meterRegistry);
+        Gauge.builder("workspace.stream.connections", openConnections, AtomicInteger::get).register(meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public SseEmitter open(UUID userId) {
+        return open(userId, new SseEmitter(Duration.ofMinutes(timeoutMinutes).toMillis()));
+    }
+
+    SseEmitter open(UUID userId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(emitter, queueCapacity);
+        Set<SseConnection> userConnections = connections.compute(userId, (id, set) -> {
+            Set<SseConnection> target = set == null ? new CopyOnWriteArraySet<>() : set;
+            target.add(connection);
+            return target;
+        });
+        openConnections.incrementAndGet();
+        Runnable remove = () -> remove(userId, connection);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        if (userConnections.size() > maxConnectionsPerUser) {
+            userConnections.stream().filter(c -> c != connection).findFirst().ifPresent(oldest -> remove(userId, oldest));
+        }
+        enqueue(userId, connection, SseEmitter.event().name("ready").data("{}"));
+        return emitter;
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        publish(new StreamMessage(NODE_ID, event.userId(), "item", event.itemId(), event.dueDate()));
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ItemContentChangedEvent event) {
+        publish(new StreamMessage(NODE_ID, event.userId(), "content", event.itemId(), event.dueDate()));
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDayNoteChanged(DayNoteChangedEvent event) {
+        publish(new StreamMessage(NODE_ID, event.userId(), "day-note", null, event.dueDate()));
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(WorkspaceBulkChangedEvent event) {
+        publish(new StreamMessage(NODE_ID, event.userId(), "bulk", null, null));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            StreamMessage payload = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), StreamMessage.class);
+            Set<SseConnection> userConnections = connections.get(payload.userId());
+            if (userConnections == null || userConnections.isEmpty()) return;
+            String data = objectMapper.writeValueAsString(new StreamEvent(payload.itemId(), payload.dueDate()));
+            for (SseConnection connection : userConnections) {
+                enqueue(payload.userId(), connection, SseEmitter.event().name(payload.type()).data(data));
+            }
+        } catch (Exception e) {
+            log.warn("workspace stream dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-ms:20000}")
+    public void heartbeat() {
+        connections.forEach((userId, userConnections) -> {
+            for (SseConnection connection : userConnections) {
+                enqueue(userId, connection, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(SseConnection::close));
+        sender.shutdownNow();
+    }
+
+    private void publish(StreamMessage message) {
+        try {
+            redis.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("workspace stream publish failed: {}", e.getMessage());
+        }
+    }
+
+    private void enqueue(UUID userId, SseConnection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.isClosed()) return;
+        if (!connection.offer(event)) {
+            dropped.increment();
+            remove(userId, connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (!connection.tryStartDrain()) return;
+        sender.execute(() -> {
+            connection.drain();
+            if (connection.hasPending() && !connection.isClosed()) scheduleDrain(connection);
+        });
+    }
+
+    /** {@code open}이 같은 사용자의 집합에 추가하는 동안 빈 집합을 지우지 않도록 맵 연산 안에서 제거한다. */
+    private void remove(UUID userId, SseConnection connection) {
+        connection.close();
+        connections.computeIfPresent(userId, (id, set) -> {
+            if (set.remove(connection)) openConnections.decrementAndGet();
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    int connectionCount(UUID userId) {
+        Set<SseConnection> userConnections = connections.get(userId);
+        return userConnections == null ? 0 : userConnections.size();
+    }
+
+    record StreamMessage(UUID origin, UUID userId, String type, UUID itemId, LocalDate dueDate) {}
+
+    record StreamEvent(UUID itemId, LocalDate dueDate) {}
+}
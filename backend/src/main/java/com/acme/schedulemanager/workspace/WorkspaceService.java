@@ -1,49 +1,81 @@
 package com.acme.schedulemanager.workspace;
 
+import com.acme.schedulemanager.domain.entity.ItemBoardSummary;
 import com.acme.schedulemanager.domain.entity.ItemTag;
 import com.acme.schedulemanager.domain.entity.WorkspaceItem;
 import com.acme.schedulemanager.domain.entity.DayNote;
-import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
+import com.acme.schedulemanager.domain.repo.BoardRowView;
+import com.acme.schedulemanager.domain.repo.CalendarDayView;
 import com.acme.schedulemanager.domain.repo.DayNoteRepository;
+import com.acme.schedulemanager.domain.repo.ItemSearchTextRepository;
 import com.acme.schedulemanager.domain.repo.ItemTagRepository;
+import com.acme.schedulemanager.domain.repo.TreeNodeView;
 import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.Comparator;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class WorkspaceService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 500;
+    private static final int MAX_CALENDAR_DAYS = 366;
+
     private final WorkspaceItemRepository itemRepo;
     private final ItemTagRepository itemTagRepo;
-    private final BlockDocumentRepository blockRepo;
     private final DayNoteRepository dayNoteRepo;
-    private final ObjectMapper objectMapper;
+    private final BoardSummarizer summarizer;
+    private final BoardCache boardCache;
+    private final KeywordIndex keywordIndex;
+    private final ItemSearchTextRepository searchTextRepo;
+    private final WorkspaceChangeService changeService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.search.max-results:200}")
+    private int maxSearchResults;
 
     public WorkspaceService(
             WorkspaceItemRepository itemRepo,
             ItemTagRepository itemTagRepo,
-            BlockDocumentRepository blockRepo,
             DayNoteRepository dayNoteRepo,
-            ObjectMapper objectMapper
+            BoardSummarizer summarizer,
+            BoardCache boardCache,
+            KeywordIndex keywordIndex,
+            ItemSearchTextRepository searchTextRepo,
+            WorkspaceChangeService changeService,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.itemRepo = itemRepo;
         this.itemTagRepo = itemTagRepo;
-        this.blockRepo = blockRepo;
         this.dayNoteRepo = dayNoteRepo;
-        this.objectMapper = objectMapper;
+        this.summarizer = summarizer;
+        this.boardCache = boardCache;
+        this.keywordIndex = keywordIndex;
+        this.searchTextRepo = searchTextRepo;
+        this.changeService = changeService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -51,11 +83,12 @@ public class WorkspaceService {
         WorkspaceItem item = new WorkspaceItem();
         item.setUserId(userId);
         item.setTitle(request.title());
-        item.setParentId(request.parentId());
+        item.setParent(request.parentId() == null ? null : findOwned(userId, request.parentId()));
         item.setDueDate(request.dueDate());
         item.setTemplateType(normalizeTemplateType(request.templateType()));
         item.setStatus("todo");
         itemRepo.save(item);
+        eventPublisher.publishEvent(new ItemChangedEvent(userId, item.getId(), null, item.getDueDate()));
         return toResponse(item);
     }
 
@@ -63,35 +96,79 @@ public class WorkspaceService {
         return itemRepo.findByUserIdOrderByUpdatedAtDesc(userId).stream().map(this::toResponse).toList();
     }
 
+    public WorkspaceDtos.ItemPageResponse findPage(UUID userId, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<WorkspaceItem> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = itemRepo.findFirstPage(userId, size + 1);
+        } else {
+            PageCursor after = decodeCursor(cursor);
+            rows = itemRepo.findPageAfter(userId, after.updatedAt(), after.id(), size + 1);
+        }
+        boolean hasMore = rows.size() > size;
+        List<WorkspaceItem> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new WorkspaceDtos.ItemPageResponse(page.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
+    public List<WorkspaceDtos.ItemResponse> recent(UUID userId) {
+        return itemRepo.findTop10ByUserIdOrderByUpdatedAtDescIdDesc(userId).stream().map(this::toResponse).toList();
+    }
+
     public List<WorkspaceDtos.ItemResponse> search(UUID userId, String keyword) {
-        String normalized = keyword == null ? "" : keyword.trim();
-        List<WorkspaceItem> byTitle = itemRepo.findByUserIdAndTitleContainingIgnoreCaseOrderByUpdatedAtDesc(userId, normalized);
-        List<UUID> contentIds = blockRepo.searchItemIdsByKeyword(normalized);
-        List<WorkspaceItem> byContent = contentIds.isEmpty()
-                ? List.of()
-                : itemRepo.findAllById(contentIds).stream().filter(v -> v.getUserId().equals(userId)).toList();
-        return java.util.stream.Stream.concat(byTitle.stream(), byContent.stream())
-                .collect(java.util.stream.Collectors.toMap(WorkspaceItem::getId, v -> v, (a, b) -> a))
-                .values().stream()
-                .sorted(byDateDescUpdatedDesc())
-                .map(this::toResponse)
-                .toList();
+        if (keywordIndex.isEnabled()) return loadInOrder(userId, keywordIndex.search(userId, keyword, null, maxSearchResults));
+        return itemRepo.searchByKeyword(userId, likePattern(keyword), maxSearchResults).stream().map(this::toResponse).toList();
     }
 
     public List<WorkspaceDtos.ItemResponse> searchByDate(UUID userId, String keyword, LocalDate dueDate) {
-        String normalized = keyword == null ? "" : keyword.trim();
-        List<WorkspaceItem> byTitle = itemRepo.findByUserIdAndDueDateAndTitleContainingIgnoreCaseOrderByUpdatedAtDesc(userId, dueDate, normalized);
-        List<UUID> contentIds = blockRepo.searchItemIdsByKeyword(normalized);
-        List<WorkspaceItem> byContent = contentIds.isEmpty()
-                ? List.of()
-                : itemRepo.findAllById(contentIds).stream()
-                .filter(v -> v.getUserId().equals(userId) && dueDate.equals(v.getDueDate()))
+        if (keywordIndex.isEnabled()) return loadInOrder(userId, keywordIndex.search(userId, keyword, dueDate, maxSearchResults));
+        return itemRepo.searchByKeywordAndDueDate(userId, dueDate, likePattern(keyword), maxSearchResults).stream().map(this::toResponse).toList();
+    }
+
+    public WorkspaceDtos.SearchPageResponse rankedSearch(UUID userId, String keyword, LocalDate dueDate, String cursor, int limit) {
+        if (keyword == null || keyword.isBlank()) throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_PAGE_SIZE));
+        UserKeywordIndex.Hit after = cursor == null || cursor.isBlank() ? null : decodeSearchCursor(cursor);
+        Map<UUID, WorkspaceItem> byId = new HashMap<>();
+        List<UserKeywordIndex.Hit> hits = keywordIndex.isEnabled()
+                ? keywordIndex.rank(userId, keyword, dueDate, after, size + 1)
+                : rankWithoutIndex(userId, keyword, dueDate, after, size + 1, byId);
+        boolean hasMore = hits.size() > size;
+        List<UserKeywordIndex.Hit> page = hasMore ? hits.subList(0, size) : hits;
+        List<UUID> missing = page.stream().map(UserKeywordIndex.Hit::itemId).filter(id -> !byId.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            itemRepo.findAllById(missing).stream()
+                    .filter(item -> item.getUserId().equals(userId))
+                    .forEach(item -> byId.put(item.getId(), item));
+        }
+        List<WorkspaceDtos.SearchHitResponse> results = page.stream()
+                .filter(hit -> byId.containsKey(hit.itemId()))
+                .map(hit -> new WorkspaceDtos.SearchHitResponse(toResponse(byId.get(hit.itemId())), hit.score(), hit.snippet()))
                 .toList();
-        return java.util.stream.Stream.concat(byTitle.stream(), byContent.stream())
-                .collect(java.util.stream.Collectors.toMap(WorkspaceItem::getId, v -> v, (a, b) -> a))
-                .values().stream()
-                .sorted(byDateDescUpdatedDesc())
-                .map(this::toResponse)
+        String nextCursor = hasMore ? encodeSearchCursor(page.get(page.size() - 1)) : null;
+        return new WorkspaceDtos.SearchPageResponse(results, nextCursor);
+    }
+
+    /**
+     * 색인을 끈 경우 trigram(ilike) 후보 최대 {@code app.search.max-results}건에 색인 검색과 같은 점수·스니펫 규칙을 적용해
+     * (점수, ID) 순서로 커서 다음부터 잘라 낸다. 후보 상한을 넘는 결과와 하루 메모 일치는 포함되지 않는다.
+     */
+    private List<UserKeywordIndex.Hit> rankWithoutIndex(UUID userId, String keyword, LocalDate dueDate, UserKeywordIndex.Hit after, int limit, Map<UUID, WorkspaceItem> loaded) {
+        String query = UserKeywordIndex.fold(UserKeywordIndex.normalize(keyword));
+        List<WorkspaceItem> candidates = dueDate == null
+                ? itemRepo.searchByKeyword(userId, likePattern(keyword), maxSearchResults)
+                : itemRepo.searchByKeywordAndDueDate(userId, dueDate, likePattern(keyword), maxSearchResults);
+        if (candidates.isEmpty()) return List.of();
+        Map<UUID, String> bodies = new HashMap<>();
+        searchTextRepo.findAllById(candidates.stream().map(WorkspaceItem::getId).toList())
+                .forEach(text -> bodies.put(text.getItemId(), text.getBody()));
+        candidates.forEach(item -> loaded.put(item.getId(), item));
+        return candidates.stream()
+                .map(item -> UserKeywordIndex.match(item.getId(), item.getTitle(), bodies.get(item.getId()), query))
+                .filter(Objects::nonNull)
+                .filter(hit -> after == null || UserKeywordIndex.Hit.RANK.compare(hit, after) > 0)
+                .sorted(UserKeywordIndex.Hit.RANK)
+                .limit(limit)
                 .toList();
     }
 
@@ -100,65 +177,57 @@ public class WorkspaceService {
     }
 
     public List<WorkspaceDtos.BoardRowResponse> board(UUID userId, YearMonth month) {
-        LocalDate from = month.atDay(1);
-        LocalDate to = month.atEndOfMonth();
-        return itemRepo.findByUserIdAndDueDateBetweenOrderByDueDateDescUpdatedAtDesc(userId, from, to).stream()
-                .map(item -> {
-                    String todayWork = "";
-                    String issue = "";
-                    String memo = "";
-                    int checklistTotal = 0;
-                    int checklistDone = 0;
-
-                    var firstBlock = blockRepo.findFirstByItemIdOrderBySortOrderAsc(item.getId()).orElse(null);
-                    if (firstBlock != null) {
-                        try {
-                            JsonNode root = objectMapper.readTree(firstBlock.getContent());
-                            JsonNode worklog = root.path("worklog");
-                            if (worklog.isObject()) {
-                                todayWork = toOneLine(worklog.path("requestContent").asText(""));
-                                issue = toOneLine(worklog.path("requestChannel").asText(""));
-                                memo = toOneLine(worklog.path("processContent1").asText(""));
-                                checklistTotal = countToken(todayWork, "[ ]") + countToken(memo, "[ ]");
-                                checklistDone = countToken(todayWork, "[x]") + countToken(memo, "[x]");
-                            } else {
-                                String html = root.path("html").asText("");
-                                String issueFromPayload = toOneLine(root.path("issue").asText(""));
-                                String memoFromPayload = toOneLine(root.path("memo").asText(""));
-                                BoardSummary summary = summarizeHtml(html);
-                                todayWork = summary.todayWork();
-                                issue = issueFromPayload.isBlank() ? summary.issue() : issueFromPayload;
-                                memo = memoFromPayload.isBlank() ? summary.memo() : memoFromPayload;
-                                checklistTotal = summary.checklistTotal();
-                                checklistDone = summary.checklistDone();
-                            }
-                        } catch (Exception ignored) {
-                        }
-                    }
-
-                    DayNote dayNote = item.getDueDate() == null
-                            ? null
-                            : dayNoteRepo.findByUserIdAndDueDate(userId, item.getDueDate()).orElse(null);
-                    if (dayNote != null) {
-                        if (!dayNote.getIssue().isBlank()) issue = shortText(dayNote.getIssue());
-                        if (!dayNote.getMemo().isBlank()) memo = shortText(dayNote.getMemo());
-                    }
-
-                    return new WorkspaceDtos.BoardRowResponse(
-                            item.getId(),
-                            item.getParentId(),
-                            item.getDueDate(),
-                            item.getTitle(),
-                            item.getStatus(),
-                            item.getTemplateType(),
-                            todayWork,
-                            issue,
-                            memo,
-                            checklistTotal,
-                            checklistDone
-                    );
-                })
-                .toList();
+        return boardCache.getOrLoad(userId, month, () -> itemRepo.findBoardRows(userId, month.atDay(1), month.atEndOfMonth()).stream()
+                .map(this::toBoardRow)
+                .toList());
+    }
+
+    public List<WorkspaceDtos.CalendarDayResponse> calendar(UUID userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) throw new IllegalArgumentException("조회 기간은 최대 " + MAX_CALENDAR_DAYS + "일입니다.");
+        Map<LocalDate, List<CalendarDayView>> byDate = itemRepo.aggregateByDueDate(userId, from, to).stream()
+                .collect(Collectors.groupingBy(CalendarDayView::dueDate, TreeMap::new, Collectors.toList()));
+        return byDate.entrySet().stream().map(entry -> {
+            Map<String, Long> statusCounts = new TreeMap<>();
+            long itemCount = 0;
+            long checklistTotal = 0;
+            long checklistDone = 0;
+            for (CalendarDayView row : entry.getValue()) {
+                statusCounts.merge(row.status(), row.itemCount(), Long::sum);
+                itemCount += row.itemCount();
+                checklistTotal += row.checklistTotal();
+                checklistDone += row.checklistDone();
+            }
+            return new WorkspaceDtos.CalendarDayResponse(entry.getKey(), itemCount, statusCounts, checklistTotal, checklistDone);
+        }).toList();
+    }
+
+    private WorkspaceDtos.BoardRowResponse toBoardRow(BoardRowView row) {
+        WorkspaceItem item = row.item();
+        ItemBoardSummary summary = row.summary();
+        String todayWork = summary == null ? "" : summary.getTodayWork();
+        String issue = summary == null ? "" : summary.getIssue();
+        String memo = summary == null ? "" : summary.getMemo();
+
+        DayNote dayNote = row.dayNote();
+        if (dayNote != null) {
+            if (!dayNote.getIssue().isBlank()) issue = summarizer.shortText(dayNote.getIssue());
+            if (!dayNote.getMemo().isBlank()) memo = summarizer.shortText(dayNote.getMemo());
+        }
+
+        return new WorkspaceDtos.BoardRowResponse(
+                item.getId(),
+                item.getParentId(),
+                item.getDueDate(),
+                item.getTitle(),
+                item.getStatus(),
+                item.getTemplateType(),
+                todayWork,
+                issue,
+                memo,
+                summary == null ? 0 : summary.getChecklistTotal(),
+                summary == null ? 0 : summary.getChecklistDone()
+        );
     }
 
     public WorkspaceDtos.DayNoteResponse getDayNote(UUID userId, LocalDate dueDate) {
@@ -178,37 +247,208 @@ public class WorkspaceService {
         note.setIssue(request.issue() == null ? "" : request.issue());
         note.setMemo(request.memo() == null ? "" : request.memo());
         dayNoteRepo.save(note);
+        eventPublisher.publishEvent(new DayNoteChangedEvent(userId, dueDate));
         return new WorkspaceDtos.DayNoteResponse(dueDate, note.getIssue(), note.getMemo());
     }
 
     @Transactional
     public WorkspaceDtos.ItemResponse update(UUID userId, UUID itemId, WorkspaceDtos.ItemUpdateRequest request) {
-        WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("항목을 찾을 수 없습니다."));
-        if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("권한이 없습니다.");
+        WorkspaceItem item = findOwned(userId, itemId);
+        if (request.parentId() != null && !request.parentId().equals(item.getParentId())) {
+            moveSubtree(userId, item, request.parentId());
+            item = findOwned(userId, itemId);
+        }
+        LocalDate previousDueDate = item.getDueDate();
         if (request.title() != null && !request.title().isBlank()) item.setTitle(request.title());
         if (request.status() != null) item.setStatus(request.status());
         if (request.dueDate() != null) item.setDueDate(request.dueDate());
         if (request.templateType() != null) item.setTemplateType(normalizeTemplateType(request.templateType()));
-        if (request.parentId() != null || request.parentId() == null) item.setParentId(request.parentId());
-
-        if (request.tagIds() != null) {
-            itemTagRepo.deleteByItemId(itemId);
-            request.tagIds().forEach(tagId -> {
-                ItemTag map = new ItemTag();
-                map.setItemId(itemId);
-                map.setTagId(tagId);
-                itemTagRepo.save(map);
-            });
-        }
 
+        if (request.tagIds() != null) replaceTags(userId, itemId, request.tagIds());
+
+        eventPublisher.publishEvent(new ItemChangedEvent(userId, itemId, previousDueDate, item.getDueDate()));
         return toResponse(item);
     }
 
+    @Transactional
+    public WorkspaceDtos.BulkResponse bulk(UUID userId, WorkspaceDtos.BulkRequest request) {
+        List<WorkspaceDtos.ItemRequest> creates = request.create() == null ? List.of() : request.create();
+        List<WorkspaceDtos.BulkUpdate> updates = request.update() == null ? List.of() : request.update();
+        List<UUID> deletes = request.delete() == null ? List.of() : request.delete();
+        if (creates.size() + updates.size() + deletes.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 항목은 최대 " + MAX_BULK_SIZE + "개입니다.");
+        }
+
+        Set<UUID> referenced = new HashSet<>(deletes);
+        updates.stream().map(WorkspaceDtos.BulkUpdate::id).filter(Objects::nonNull).forEach(referenced::add);
+        creates.stream().map(WorkspaceDtos.ItemRequest::parentId).filter(Objects::nonNull).forEach(referenced::add);
+        Map<UUID, WorkspaceItem> owned = referenced.isEmpty() ? Map.of() : itemRepo.findByUserIdAndIdIn(userId, referenced).stream()
+                .collect(Collectors.toMap(WorkspaceItem::getId, item -> item));
+
+        List<WorkspaceDtos.BulkResult> results = new ArrayList<>();
+        List<Object> events = new ArrayList<>();
+
+        WorkspaceItem[] created = new WorkspaceItem[creates.size()];
+        String[] createErrors = new String[creates.size()];
+        for (int i = 0; i < creates.size(); i++) {
+            WorkspaceDtos.ItemRequest create = creates.get(i);
+            if (create.title() == null || create.title().isBlank()) {
+                createErrors[i] = "제목을 입력해 주세요.";
+                continue;
+            }
+            WorkspaceItem parent = create.parentId() == null ? null : owned.get(create.parentId());
+            if (create.parentId() != null && parent == null) {
+                createErrors[i] = "상위 항목을 찾을 수 없습니다.";
+                continue;
+            }
+            WorkspaceItem item = new WorkspaceItem();
+            item.setUserId(userId);
+            item.setTitle(create.title());
+            item.setParent(parent);
+            item.setDueDate(create.dueDate());
+            item.setTemplateType(normalizeTemplateType(create.templateType()));
+            item.setStatus("todo");
+            created[i] = item;
+        }
+        itemRepo.saveAll(Arrays.stream(created).filter(Objects::nonNull).toList());
+        for (int i = 0; i < created.length; i++) {
+            WorkspaceItem item = created[i];
+            if (item == null) {
+                results.add(new WorkspaceDtos.BulkResult("create", i, null, false, createErrors[i]));
+                continue;
+            }
+            results.add(new WorkspaceDtos.BulkResult("create", i, item.getId(), true, null));
+            events.add(new ItemChangedEvent(userId, item.getId(), null, item.getDueDate()));
+        }
+
+        for (int i = 0; i < updates.size(); i++) {
+            WorkspaceDtos.BulkUpdate update = updates.get(i);
+            WorkspaceItem item = update.id() == null ? null : owned.get(update.id());
+            if (item == null) {
+                results.add(new WorkspaceDtos.BulkResult("update", i, update.id(), false, "항목을 찾을 수 없습니다."));
+                continue;
+            }
+            LocalDate previousDueDate = item.getDueDate();
+            if (update.title() != null && !update.title().isBlank()) item.setTitle(update.title());
+            if (update.status() != null) item.setStatus(update.status());
+            if (update.dueDate() != null) item.setDueDate(update.dueDate());
+            if (update.templateType() != null) item.setTemplateType(normalizeTemplateType(update.templateType()));
+            results.add(new WorkspaceDtos.BulkResult("update", i, item.getId(), true, null));
+            events.add(new ItemChangedEvent(userId, item.getId(), previousDueDate, item.getDueDate()));
+        }
+
+        List<WorkspaceItem> deleted = new ArrayList<>();
+        for (int i = 0; i < deletes.size(); i++) {
+            WorkspaceItem item = owned.get(deletes.get(i));
+            if (item == null) {
+                results.add(new WorkspaceDtos.BulkResult("delete", i, deletes.get(i), false, "항목을 찾을 수 없습니다."));
+                continue;
+            }
+            deleted.add(item);
+            results.add(new WorkspaceDtos.BulkResult("delete", i, item.getId(), true, null));
+        }
+        boolean cascades = !deleted.isEmpty() && itemRepo.existsByUserIdAndParentIdIn(userId, deleted.stream().map(WorkspaceItem::getId).toList());
+        List<WorkspaceItem> roots = deleted.stream()
+                .filter(item -> deleted.stream().noneMatch(other -> other != item && item.getPath().startsWith(other.getPath())))
+                .distinct()
+                .toList();
+        roots.forEach(item -> changeService.recordDeletion(userId, item));
+        itemRepo.deleteAll(roots);
+        if (cascades) {
+            events.clear();
+            events.add(new WorkspaceBulkChangedEvent(userId));
+        } else {
+            deleted.forEach(item -> events.add(new ItemChangedEvent(userId, item.getId(), item.getDueDate(), null)));
+        }
+
+        events.forEach(eventPublisher::publishEvent);
+        return new WorkspaceDtos.BulkResponse(results);
+    }
+
+    @Transactional
+    public WorkspaceDtos.ItemResponse move(UUID userId, UUID itemId, WorkspaceDtos.MoveRequest request) {
+        WorkspaceItem item = findOwned(userId, itemId);
+        moveSubtree(userId, item, request.parentId());
+        eventPublisher.publishEvent(new ItemChangedEvent(userId, itemId, item.getDueDate(), item.getDueDate()));
+        return toResponse(findOwned(userId, itemId));
+    }
+
+    public List<WorkspaceDtos.TreeNodeResponse> children(UUID userId, UUID parentId) {
+        List<TreeNodeView> nodes = parentId == null ? itemRepo.findRootNodes(userId) : itemRepo.findChildNodes(userId, parentId);
+        return nodes.stream().map(node -> new WorkspaceDtos.TreeNodeResponse(toResponse(node.item()), node.childCount())).toList();
+    }
+
+    public List<WorkspaceDtos.ItemResponse> subtree(UUID userId, UUID itemId) {
+        WorkspaceItem root = findOwned(userId, itemId);
+        return itemRepo.findSubtree(userId, root.getPath()).stream().map(this::toResponse).toList();
+    }
+
     @Transactional
     public void delete(UUID userId, UUID itemId) {
         WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("항목을 찾을 수 없습니다."));
         if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("권한이 없습니다.");
+        boolean hasChildren = itemRepo.existsByParentId(itemId);
+        changeService.recordDeletion(userId, item);
         itemRepo.delete(item);
+        eventPublisher.publishEvent(hasChildren
+                ? new WorkspaceBulkChangedEvent(userId)
+                : new ItemChangedEvent(userId, itemId, item.getDueDate(), null));
+    }
+
+    public List<WorkspaceDtos.ItemResponse> filterByTags(UUID userId, List<WorkspaceDtos.ItemResponse> items, List<UUID> tagIds, String tagMode) {
+        Set<UUID> tagged = new HashSet<>(findTaggedItemIds(userId, tagIds, tagMode));
+        return items.stream().filter(item -> tagged.contains(item.id())).toList();
+    }
+
+    public List<WorkspaceDtos.ItemResponse> findByTags(UUID userId, List<UUID> tagIds, String tagMode) {
+        List<UUID> itemIds = findTaggedItemIds(userId, tagIds, tagMode);
+        if (itemIds.isEmpty()) return List.of();
+        return itemRepo.findByUserIdAndIdIn(userId, itemIds).stream()
+                .sorted(Comparator.comparing(WorkspaceItem::getUpdatedAt).reversed())
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private List<UUID> findTaggedItemIds(UUID userId, List<UUID> tagIds, String tagMode) {
+        Set<UUID> distinct = new HashSet<>(tagIds);
+        if (tagMode == null || tagMode.equalsIgnoreCase("any")) return itemTagRepo.findItemIdsWithAnyTag(userId, distinct);
+        if (tagMode.equalsIgnoreCase("all")) return itemTagRepo.findItemIdsWithAllTags(userId, distinct, distinct.size());
+        throw new IllegalArgumentException("tagMode는 all 또는 any만 사용할 수 있습니다.");
+    }
+
+    private void replaceTags(UUID userId, UUID itemId, List<UUID> tagIds) {
+        Set<UUID> wanted = new HashSet<>(tagIds);
+        Set<UUID> current = itemTagRepo.findByItemId(itemId).stream().map(ItemTag::getTagId).collect(Collectors.toSet());
+        Set<UUID> removed = new HashSet<>(current);
+        removed.removeAll(wanted);
+        Set<UUID> added = new HashSet<>(wanted);
+        added.removeAll(current);
+        if (!removed.isEmpty()) itemTagRepo.deleteTags(itemId, removed);
+        if (!added.isEmpty()) itemTagRepo.insertOwnedTags(userId, itemId, added);
+    }
+
+    private WorkspaceItem findOwned(UUID userId, UUID itemId) {
+        WorkspaceItem item = itemRepo.findById(itemId).orElseThrow(() -> new EntityNotFoundException("항목을 찾을 수 없습니다."));
+        if (!item.getUserId().equals(userId)) throw new IllegalArgumentException("권한이 없습니다.");
+        return item;
+    }
+
+    private void moveSubtree(UUID userId, WorkspaceItem item, UUID parentId) {
+        WorkspaceItem parent = parentId == null ? null : findOwned(userId, parentId);
+        if (parent != null && parent.getPath().startsWith(item.getPath())) {
+            throw new IllegalArgumentException("자기 자신이나 하위 항목 아래로 이동할 수 없습니다.");
+        }
+        String newPath = (parent == null ? "/" : parent.getPath()) + item.getId() + "/";
+        if (!newPath.equals(item.getPath())) itemRepo.movePaths(userId, item.getPath(), newPath);
+        itemRepo.updateParent(item.getId(), parentId, Instant.now());
+    }
+
+    private List<WorkspaceDtos.ItemResponse> loadInOrder(UUID userId, List<UUID> itemIds) {
+        if (itemIds.isEmpty()) return List.of();
+        Map<UUID, WorkspaceItem> byId = itemRepo.findAllById(itemIds).stream()
+                .filter(item -> item.getUserId().equals(userId))
+                .collect(Collectors.toMap(WorkspaceItem::getId, item -> item));
+        return itemIds.stream().map(byId::get).filter(Objects::nonNull).map(this::toResponse).toList();
     }
 
     private WorkspaceDtos.ItemResponse toResponse(WorkspaceItem item) {
@@ -223,97 +463,41 @@ public class WorkspaceService {
         };
     }
 
-    private BoardSummary summarizeHtml(String html) {
-        if (html == null || html.isBlank()) {
-            return new BoardSummary("", "", "", 0, 0);
-        }
-        Document doc = Jsoup.parseBodyFragment(html);
-        String today = "";
-        String issue = "";
-        String memo = "";
-        int total = 0;
-        int done = 0;
-        for (Element li : doc.select("li")) {
-            String text = li.text();
-            if (text.contains("[ ]") || text.contains("[x]") || text.contains("☐") || text.contains("☑")) {
-                total++;
-                if (text.contains("[x]") || text.contains("☑")) done++;
-            }
-        }
-
-        String section = null;
-        List<String> todayLines = new ArrayList<>();
-        List<String> issueLines = new ArrayList<>();
-        List<String> memoLines = new ArrayList<>();
-
-        for (Element el : doc.body().children()) {
-            String text = el.text().trim();
-            if (text.isBlank()) continue;
-            if (el.tagName().matches("h1|h2|h3|h4")) {
-                if (text.contains("요청내용") || text.contains("오늘의 업무")) {
-                    section = "today";
-                    continue;
-                }
-                if (text.contains("이슈")) {
-                    section = "issue";
-                    continue;
-                }
-                if (text.contains("메모")) {
-                    section = "memo";
-                    continue;
-                }
-                section = null;
-                continue;
-            }
-
-            if (section == null) continue;
-            if ("today".equals(section)) todayLines.add(text);
-            if ("issue".equals(section)) issueLines.add(text);
-            if ("memo".equals(section)) memoLines.add(text);
-        }
-
-        if (!todayLines.isEmpty()) today = shortText(String.join(" / ", todayLines));
-        if (!issueLines.isEmpty()) issue = shortText(String.join(" / ", issueLines));
-        if (!memoLines.isEmpty()) memo = shortText(String.join(" / ", memoLines));
-
-        if (today.isBlank()) today = shortText(doc.select("p,li").stream().map(Element::text).findFirst().orElse(""));
-        if (done > total) done = total;
-        return new BoardSummary(today, issue, memo, total, done);
+    private String encodeCursor(WorkspaceItem item) {
+        String raw = item.getUpdatedAt() + "|" + item.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
-    private int countToken(String source, String token) {
-        if (source == null || source.isBlank()) return 0;
-        int count = 0;
-        int from = 0;
-        while (true) {
-            int idx = source.indexOf(token, from);
-            if (idx < 0) return count;
-            count++;
-            from = idx + token.length();
+    private PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf('|');
+            return new PageCursor(Instant.parse(raw.substring(0, idx)), UUID.fromString(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
         }
     }
 
-    private String toOneLine(String raw) {
-        return shortText(raw == null ? "" : raw.replace('\n', ' '));
+    private String encodeSearchCursor(UserKeywordIndex.Hit hit) {
+        String raw = hit.score() + "|" + hit.itemId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
-    private String shortText(String raw) {
-        if (raw == null) return "";
-        String compact = raw.replaceAll("\\s+", " ").trim();
-        return compact.length() > 120 ? compact.substring(0, 120) + "..." : compact;
+    private UserKeywordIndex.Hit decodeSearchCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf('|');
+            return new UserKeywordIndex.Hit(UUID.fromString(raw.substring(idx + 1)), Double.parseDouble(raw.substring(0, idx)), null);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
     }
 
-    private Comparator<WorkspaceItem> byDateDescUpdatedDesc() {
-        return Comparator
-                .comparing(WorkspaceItem::getDueDate, Comparator.nullsLast(Comparator.reverseOrder()))
-                .thenComparing(WorkspaceItem::getUpdatedAt, Comparator.reverseOrder());
+    private String likePattern(String keyword) {
+        String normalized = keyword == null ? "" : keyword.trim();
+        String escaped = normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
     }
 
-    private record BoardSummary(
-            String todayWork,
-            String issue,
-            String memo,
-            int checklistTotal,
-            int checklistDone
-    ) {}
+    private record PageCursor(Instant updatedAt, UUID id) {}
 }
@@ -0,0 +1,76 @@
+package com.acme.schedulemanager.workspace;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Component
+public class WorkspaceVersion {
+    private static final Logger log = LoggerFactory.getLogger(WorkspaceVersion.class);
+
+    private final StringRedisTemplate redis;
+
+    public WorkspaceVersion(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    public OptionalLong current(UUID userId) {
+        try {
+            String key = key(userId);
+            String value = redis.opsForValue().get(key);
+            if (value == null) {
+                redis.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+                value = redis.opsForValue().get(key);
+            }
+            return value == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(value));
+        } catch (Exception e) {
+            log.debug("workspace version read failed: {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    public void bump(UUID userId) {
+        try {
+            String key = key(userId);
+            redis.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+            redis.opsForValue().increment(key);
+        } catch (Exception e) {
+            log.warn("workspace version bump failed: {}", e.getMessage());
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        bump(event.userId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ItemContentChangedEvent event) {
+        bump(event.userId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDayNoteChanged(DayNoteChangedEvent event) {
+        bump(event.userId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(WorkspaceBulkChangedEvent event) {
+        bump(event.userId());
+    }
+
+    private String key(UUID userId) {
+        return "workspace:version:" + userId;
+    }
+}
@@ -0,0 +1,11 @@
+create table deleted_items (
+  id bigserial primary key,
+  item_id uuid not null,
+  user_id uuid not null,
+  deleted_at timestamptz not null
+);
+
+create index idx_deleted_items_user_deleted_at on deleted_items(user_id, deleted_at);
+create index idx_deleted_items_deleted_at on deleted_items(deleted_at);
+create index idx_day_notes_user_updated_at on day_notes(user_id, updated_at);
+create index idx_board_summaries_user_updated_at on board_summaries(user_id, updated_at);
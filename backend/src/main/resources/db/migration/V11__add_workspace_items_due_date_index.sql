@@ -0,0 +1 @@
+create index idx_workspace_items_user_due_date on workspace_items(user_id, due_date);
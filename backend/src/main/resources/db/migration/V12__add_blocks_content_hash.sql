@@ -0,0 +1 @@
+alter table blocks add column content_hash varchar(64);
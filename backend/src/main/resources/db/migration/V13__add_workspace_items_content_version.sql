@@ -0,0 +1 @@
+alter table workspace_items add column content_version bigint not null default 0;
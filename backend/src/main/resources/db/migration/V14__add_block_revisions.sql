@@ -0,0 +1,10 @@
+create table block_revisions (
+  id bigserial primary key,
+  item_id uuid not null references workspace_items(id) on delete cascade,
+  user_id uuid not null,
+  revision int not null,
+  snapshot boolean not null,
+  payload text not null,
+  created_at timestamptz not null,
+  unique (item_id, revision)
+);
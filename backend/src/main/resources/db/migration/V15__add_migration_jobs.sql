@@ -0,0 +1,38 @@
+create table migration_jobs (
+  id uuid primary key,
+  user_id uuid not null references users(id) on delete cascade,
+  status varchar(20) not null,
+  phase varchar(20) not null,
+  source_name text not null,
+  spool_path text not null,
+  csv_total int not null default 0,
+  csv_done int not null default 0,
+  docs_total int not null default 0,
+  docs_done int not null default 0,
+  assets_total int not null default 0,
+  assets_done int not null default 0,
+  rewrites_total int not null default 0,
+  rewrites_done int not null default 0,
+  rewrite_cursor uuid,
+  persisted_items int not null default 0,
+  persisted_files int not null default 0,
+  error text,
+  created_at timestamptz not null,
+  updated_at timestamptz not null,
+  finished_at timestamptz
+);
+
+create unique index ux_migration_jobs_active_user on migration_jobs(user_id) where status in ('QUEUED', 'RUNNING');
+create index idx_migration_jobs_user_created on migration_jobs(user_id, created_at desc);
+create index idx_migration_jobs_status_updated on migration_jobs(status, updated_at);
+
+create table migration_job_records (
+  id bigserial primary key,
+  job_id uuid not null references migration_jobs(id) on delete cascade,
+  kind varchar(16) not null,
+  item_id uuid,
+  name text not null,
+  value text
+);
+
+create index idx_migration_job_records_job on migration_job_records(job_id, kind, id);
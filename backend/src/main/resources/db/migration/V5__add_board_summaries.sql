@@ -0,0 +1,12 @@
+create table if not exists board_summaries (
+  item_id uuid primary key references workspace_items(id) on delete cascade,
+  user_id uuid not null references users(id) on delete cascade,
+  today_work text not null default '',
+  issue text not null default '',
+  memo text not null default '',
+  checklist_total int not null default 0,
+  checklist_done int not null default 0,
+  updated_at timestamptz not null
+);
+
+create index if not exists idx_board_summaries_user on board_summaries(user_id);
@@ -0,0 +1 @@
+create index if not exists idx_workspace_items_user_updated on workspace_items(user_id, updated_at desc, id desc);
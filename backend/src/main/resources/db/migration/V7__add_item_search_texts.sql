@@ -0,0 +1,14 @@
+create extension if not exists pg_trgm;
+create extension if not exists btree_gin;
+
+create table if not exists item_search_texts (
+  item_id uuid primary key references workspace_items(id) on delete cascade,
+  user_id uuid not null references users(id) on delete cascade,
+  body text not null default '',
+  updated_at timestamptz not null
+);
+
+create index if not exists idx_item_search_texts_body on item_search_texts using gin (user_id, body gin_trgm_ops);
+
+drop index if exists idx_workspace_items_title;
+create index if not exists idx_workspace_items_title_trgm on workspace_items using gin (user_id, title gin_trgm_ops);
@@ -0,0 +1,18 @@
+alter table workspace_items add column path text;
+
+with recursive tree as (
+  select id, '/' || id::text || '/' as path
+  from workspace_items
+  where parent_id is null
+  union all
+  select c.id, t.path || c.id::text || '/'
+  from workspace_items c
+  join tree t on c.parent_id = t.id
+)
+update workspace_items w set path = tree.path from tree where w.id = tree.id;
+
+update workspace_items set path = '/' || id::text || '/' where path is null;
+
+alter table workspace_items alter column path set not null;
+
+create index idx_workspace_items_path on workspace_items(user_id, path text_pattern_ops);
@@ -0,0 +1 @@
+create index idx_item_tags_tag_item on item_tags(tag_id, item_id);
@@ -0,0 +1,192 @@
+package com.acme.schedulemanager;
+
+import com.acme.schedulemanager.content.AutosaveService;
+import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "app.autosave.write-behind.enabled=true",
+        "app.autosave.debounce-ms=600000",
+        "app.autosave.max-delay-ms=600000"
+})
+public class AutosaveIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    BlockDocumentRepository blockRepo;
+
+    @Autowired
+    AutosaveService autosaveService;
+
+    @Test
+    void autosavesAreBufferedAndFlushedOnRead() throws Exception {
+        String token = login("autosave@example.com");
+        String itemId = createItem(token);
+
+        var first = mvc.perform(put("/api/content/" + itemId + "/autosave")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"입력 중\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buffered").value(true))
+                .andExpect(jsonPath("$.blocks[0].id").exists())
+                .andReturn();
+        String blockId = objectMapper.readTree(first.getResponse().getContentAsString()).get("blocks").get(0).get("id").asText();
+
+        mvc.perform(put("/api/content/" + itemId + "/autosave")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"id\":\"" + blockId + "\",\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"입력 완료\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks[0].id").value(blockId));
+
+        assertThat(blockRepo.countByItemId(UUID.fromString(itemId))).isZero();
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks.length()").value(1))
+                .andExpect(jsonPath("$.blocks[0].id").value(blockId))
+                .andExpect(jsonPath("$.blocks[0].content").value(containsString("입력 완료")));
+
+        mvc.perform(put("/api/content/" + itemId + "/autosave")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"id\":\"" + blockId + "\",\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"다시 수정\\\"}\"}]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/api/content/" + itemId + "/autosave/flush").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks[0].id").value(blockId))
+                .andExpect(jsonPath("$.blocks[0].content").value(containsString("다시 수정")));
+    }
+
+    @Test
+    void patchAcceptsVersionReturnedByAutosave() throws Exception {
+        String token = login("autosave-patch@example.com");
+        String itemId = createItem(token);
+        String body = "{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"초안\\\"}\"}]}";
+
+        var first = mvc.perform(put("/api/content/" + itemId + "/autosave")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode autosaved = objectMapper.readTree(first.getResponse().getContentAsString());
+        String blockId = autosaved.get("blocks").get(0).get("id").asText();
+        long version = autosaved.get("version").asLong();
+
+        var patched = mvc.perform(patch("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseVersion\":" + version + ",\"operations\":[{\"op\":\"move\",\"id\":\"" + blockId + "\",\"sortOrder\":1}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version + 1))
+                .andReturn();
+        long patchedVersion = objectMapper.readTree(patched.getResponse().getContentAsString()).get("version").asLong();
+
+        String unchanged = "{\"blocks\":[{\"id\":\"" + blockId + "\",\"sortOrder\":1,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"초안\\\"}\"}]}";
+        var second = mvc.perform(put("/api/content/" + itemId + "/autosave")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(unchanged))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(patchedVersion + 1))
+                .andReturn();
+        long next = objectMapper.readTree(second.getResponse().getContentAsString()).get("version").asLong();
+
+        mvc.perform(patch("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseVersion\":" + next + ",\"operations\":[]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(next));
+
+        mvc.perform(patch("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseVersion\":" + (next - 1) + ",\"operations\":[]}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void otherUsersCannotFlushPendingAutosave() throws Exception {
+        String token = login("autosave-owner@example.com");
+        String itemId = createItem(token);
+        String otherToken = login("autosave-other@example.com");
+
+        mvc.perform(put("/api/content/" + itemId + "/autosave")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"비공개\\\"}\"}]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isBadRequest());
+        mvc.perform(post("/api/content/" + itemId + "/autosave/flush").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isBadRequest());
+        assertThat(blockRepo.countByItemId(UUID.fromString(itemId))).isZero();
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks[0].content").value(containsString("비공개")));
+    }
+
+    @Test
+    void pendingAutosavesAreFlushedOnShutdown() throws Exception {
+        String token = login("autosave-stop@example.com");
+        String itemId = createItem(token);
+
+        mvc.perform(put("/api/content/" + itemId + "/autosave")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"종료 전\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buffered").value(true));
+        assertThat(blockRepo.countByItemId(UUID.fromString(itemId))).isZero();
+
+        autosaveService.stop();
+        autosaveService.start();
+
+        assertThat(blockRepo.countByItemId(UUID.fromString(itemId))).isEqualTo(1);
+    }
+
+    private String login(String email) throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"nickname\":\"자동저장\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode node = objectMapper.readTree(login.getResponse().getContentAsString());
+        return node.get("accessToken").asText();
+    }
+
+    private String createItem(String token) throws Exception {
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"자동 저장\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+}
@@ -0,0 +1,147 @@
+package com.acme.schedulemanager;
+
+import com.acme.schedulemanager.content.BlockChunkService;
+import com.acme.schedulemanager.domain.entity.BlockDocument;
+import com.acme.schedulemanager.domain.repo.BlockDocumentRepository;
+import com.acme.schedulemanager.workspace.BoardSummaryService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = "app.content.max-block-html-chars=300")
+public class BlockChunkIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    BlockChunkService blockChunkService;
+
+    @Autowired
+    BoardSummaryService boardSummaryService;
+
+    @Autowired
+    BlockDocumentRepository blockRepo;
+
+    @Test
+    void splitEvictsBoardAndSummaryCoversLaterChunks() throws Exception {
+        String token = login("chunk@example.com");
+        String itemId = createItem(token);
+
+        // 제한이 생기기 전에 저장된 큰 블록
+        String html = "<h3>오늘의 업무</h3><p>" + "가".repeat(280) + "</p><hr /><h3>이슈</h3><p>서버 점검 지연</p>";
+        BlockDocument legacy = new BlockDocument();
+        legacy.setItemId(UUID.fromString(itemId));
+        legacy.setSortOrder(0);
+        legacy.setType("paragraph");
+        legacy.setContent(objectMapper.writeValueAsString(Map.of("html", html)));
+        blockRepo.save(legacy);
+
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-07").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        assertThat(redisTemplate.keys("board:*:2026-07")).hasSize(1);
+
+        BlockChunkService.SplitReport report = blockChunkService.splitAllOversized(10);
+        assertThat(report.items()).isEqualTo(1);
+        assertThat(report.blocksAdded()).isEqualTo(1);
+        assertThat(redisTemplate.keys("board:*:2026-07")).isEmpty();
+
+        JsonNode blocks = loadBlocks(token, itemId);
+        assertThat(blocks).hasSize(2);
+        JsonNode chunk = objectMapper.readTree(blocks.get(1).get("content").asText());
+        assertThat(chunk.get("continued").asBoolean()).isTrue();
+        assertThat(chunk.get("html").asText()).startsWith("<hr /><h3>이슈</h3>");
+
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-07").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].todayWork").value("가".repeat(120) + "..."))
+                .andExpect(jsonPath("$[0].issue").value("서버 점검 지연"));
+
+        assertThat(boardSummaryService.checkConsistency(1000, false).mismatchedItemIds()).doesNotContain(UUID.fromString(itemId));
+    }
+
+    @Test
+    void editorRoundTripKeepsEveryChunk() throws Exception {
+        String token = login("roundtrip@example.com");
+        String itemId = createItem(token);
+
+        String html = "<h3>오늘의 업무</h3><p>" + "가".repeat(280) + "</p><hr /><h3>이슈</h3><p>서버 점검 지연</p>";
+        saveHtml(token, itemId, html);
+        JsonNode blocks = loadBlocks(token, itemId);
+        assertThat(blocks).hasSize(2);
+
+        // 편집기처럼 조각을 이어 붙여 열고, id 없는 한 블록으로 다시 저장한다.
+        String edited = joinLikeEditor(blocks) + "<p>재시작 완료</p>";
+        assertThat(edited).isEqualTo(html + "<p>재시작 완료</p>");
+        saveHtml(token, itemId, edited);
+
+        JsonNode reloaded = loadBlocks(token, itemId);
+        assertThat(reloaded).hasSize(2);
+        assertThat(joinLikeEditor(reloaded)).isEqualTo(edited);
+
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-07").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].issue").value("서버 점검 지연 / 재시작 완료"));
+    }
+
+    private String joinLikeEditor(JsonNode blocks) throws Exception {
+        StringBuilder html = new StringBuilder(objectMapper.readTree(blocks.get(0).get("content").asText()).get("html").asText());
+        for (int i = 1; i < blocks.size(); i++) {
+            JsonNode chunk = objectMapper.readTree(blocks.get(i).get("content").asText());
+            if (chunk.path("continued").asBoolean()) html.append(chunk.get("html").asText());
+        }
+        return html.toString();
+    }
+
+    private JsonNode loadBlocks(String token, String itemId) throws Exception {
+        var result = mvc.perform(get("/api/content/" + itemId + "/blocks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("blocks");
+    }
+
+    private void saveHtml(String token, String itemId, String html) throws Exception {
+        String content = objectMapper.writeValueAsString(Map.of("html", html));
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("blocks", new Object[]{
+                                Map.of("sortOrder", 0, "type", "paragraph", "content", content)
+                        }))))
+                .andExpect(status().isOk());
+    }
+
+    private String createItem(String token) throws Exception {
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"대용량 문서\",\"dueDate\":\"2026-07-10\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String login(String email) throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"nickname\":\"분할\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
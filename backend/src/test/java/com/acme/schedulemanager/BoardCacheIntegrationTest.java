@@ -0,0 +1,109 @@
+package com.acme.schedulemanager;
+
+import com.acme.schedulemanager.workspace.BoardCache;
+import com.acme.schedulemanager.workspace.DayNoteChangedEvent;
+import com.acme.schedulemanager.workspace.WorkspaceVersion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class BoardCacheIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    BoardCache boardCache;
+
+    @Autowired
+    WorkspaceVersion workspaceVersion;
+
+    @Test
+    void dueDateChangeEvictsOldAndNewMonths() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"board-cache@example.com\",\"nickname\":\"캐시\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"board-cache@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"월간 점검\",\"dueDate\":\"2026-03-20\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-03").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(itemId));
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-04").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        assertThat(redisTemplate.keys("board:*:2026-0[34]")).hasSize(2);
+
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-03").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("월간 점검"));
+
+        mvc.perform(patch("/api/workspace/items/" + itemId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dueDate\":\"2026-04-02\"}"))
+                .andExpect(status().isOk());
+        assertThat(redisTemplate.keys("board:*:2026-0[34]")).isEmpty();
+
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-03").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-04").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(itemId))
+                .andExpect(jsonPath("$[0].dueDate").value("2026-04-02"));
+    }
+
+    @Test
+    void rowsReadBeforeAConcurrentWriteAreNotServed() {
+        UUID userId = UUID.randomUUID();
+        YearMonth month = YearMonth.of(2026, 5);
+        DayNoteChangedEvent write = new DayNoteChangedEvent(userId, month.atDay(1));
+
+        boardCache.getOrLoad(userId, month, () -> {
+            // 행을 읽는 사이에 다른 요청의 쓰기가 커밋되어 캐시를 비우고 버전을 올린다.
+            boardCache.onDayNoteChanged(write);
+            workspaceVersion.onDayNoteChanged(write);
+            return List.of();
+        });
+        assertThat(redisTemplate.keys("board:" + userId + ":2026-05")).hasSize(1);
+
+        AtomicInteger loads = new AtomicInteger();
+        boardCache.getOrLoad(userId, month, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        boardCache.getOrLoad(userId, month, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.acme.schedulemanager;
+
+import com.acme.schedulemanager.domain.repo.UserAccountRepository;
+import com.acme.schedulemanager.workspace.WorkspaceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BoardQueryCountIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    WorkspaceService workspaceService;
+
+    @Autowired
+    UserAccountRepository userRepo;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void boardUsesConstantNumberOfQueries() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"board@example.com\",\"nickname\":\"보드\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"board@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        int itemCount = 12;
+        for (int i = 1; i <= itemCount; i++) {
+            String dueDate = String.format("2026-03-%02d", i);
+            var created = mvc.perform(post("/api/workspace/items")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"항목" + i + "\",\"dueDate\":\"" + dueDate + "\"}"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+            mvc.perform(put("/api/content/" + itemId + "/blocks")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"<h3>오늘의 업무</h3><ul><li>[x] 작업" + i + "</li></ul>\\\"}\"}]}"))
+                    .andExpect(status().isOk());
+
+            mvc.perform(put("/api/workspace/items/day-note")
+                            .param("date", dueDate)
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"issue\":\"이슈" + i + "\",\"memo\":\"\"}"))
+                    .andExpect(status().isOk());
+        }
+
+        UUID userId = userRepo.findByEmail("board@example.com").orElseThrow().getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var rows = workspaceService.board(userId, YearMonth.of(2026, 3));
+
+        assertThat(rows).hasSize(itemCount);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.checklistTotal()).isEqualTo(1);
+            assertThat(row.checklistDone()).isEqualTo(1);
+            assertThat(row.issue()).startsWith("이슈");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
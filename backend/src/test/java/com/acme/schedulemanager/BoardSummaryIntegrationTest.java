@@ -0,0 +1,99 @@
+package com.acme.schedulemanager;
+
+import com.acme.schedulemanager.domain.entity.ItemBoardSummary;
+import com.acme.schedulemanager.domain.repo.ItemBoardSummaryRepository;
+import com.acme.schedulemanager.workspace.BoardSummaryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class BoardSummaryIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ItemBoardSummaryRepository summaryRepo;
+
+    @Autowired
+    BoardSummaryService boardSummaryService;
+
+    @Test
+    void summaryIsMaterializedOnWriteAndBackfilled() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"summary@example.com\",\"nickname\":\"요약\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"summary@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"업무일지\",\"dueDate\":\"2026-03-10\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        UUID itemId = UUID.fromString(objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText());
+
+        saveHtml(token, itemId, "<h3>오늘의 업무</h3><ul><li>[x] 기획</li><li>[ ] 검토</li></ul>"
+                + "<h3>이슈</h3><p>일정 지연</p><h3>메모</h3><p>회의실 예약</p>");
+
+        ItemBoardSummary row = summaryRepo.findById(itemId).orElseThrow();
+        assertThat(row.getTodayWork()).isEqualTo("[x] 기획 [ ] 검토");
+        assertThat(row.getIssue()).isEqualTo("일정 지연");
+        assertThat(row.getMemo()).isEqualTo("회의실 예약");
+        assertThat(row.getChecklistTotal()).isEqualTo(2);
+        assertThat(row.getChecklistDone()).isEqualTo(1);
+
+        mvc.perform(get("/api/workspace/items/board").param("month", "2026-03").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(itemId.toString()))
+                .andExpect(jsonPath("$[0].todayWork").value("[x] 기획 [ ] 검토"))
+                .andExpect(jsonPath("$[0].issue").value("일정 지연"))
+                .andExpect(jsonPath("$[0].memo").value("회의실 예약"))
+                .andExpect(jsonPath("$[0].checklistTotal").value(2))
+                .andExpect(jsonPath("$[0].checklistDone").value(1));
+
+        saveHtml(token, itemId, "<h3>오늘의 업무</h3><ul><li>[x] 기획</li><li>[x] 검토</li></ul><h3>이슈</h3><p>해결됨</p>");
+
+        row = summaryRepo.findById(itemId).orElseThrow();
+        assertThat(row.getIssue()).isEqualTo("해결됨");
+        assertThat(row.getMemo()).isEmpty();
+        assertThat(row.getChecklistDone()).isEqualTo(2);
+
+        summaryRepo.deleteById(itemId);
+        assertThat(boardSummaryService.backfill()).isGreaterThanOrEqualTo(1);
+        row = summaryRepo.findById(itemId).orElseThrow();
+        assertThat(row.getIssue()).isEqualTo("해결됨");
+        assertThat(row.getChecklistDone()).isEqualTo(2);
+
+        BoardSummaryService.ConsistencyReport report = boardSummaryService.checkConsistency(1000, false);
+        assertThat(report.missing()).isZero();
+        assertThat(report.mismatchedItemIds()).doesNotContain(itemId);
+    }
+
+    private void saveHtml(String token, UUID itemId, String html) throws Exception {
+        String content = objectMapper.writeValueAsString(Map.of("html", html));
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("blocks", List.of(
+                                Map.of("sortOrder", 0, "type", "paragraph", "content", content)
+                        )))))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,83 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class CalendarIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void calendarAggregatesItemsPerDay() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"calendar@example.com\",\"nickname\":\"달력\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"calendar@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        String first = createItem(token, "{\"title\":\"첫 번째\",\"dueDate\":\"2026-05-04\"}");
+        String second = createItem(token, "{\"title\":\"두 번째\",\"dueDate\":\"2026-05-04\"}");
+        createItem(token, "{\"title\":\"세 번째\",\"dueDate\":\"2026-05-20\"}");
+        createItem(token, "{\"title\":\"범위 밖\",\"dueDate\":\"2026-07-01\"}");
+
+        mvc.perform(patch("/api/workspace/items/" + second)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"done\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(put("/api/content/" + first + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"<h3>오늘의 업무</h3><ul><li>[x] 완료</li><li>[ ] 남음</li></ul>\\\"}\"}]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/workspace/calendar").param("from", "2026-05-01").param("to", "2026-05-31")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].date").value("2026-05-04"))
+                .andExpect(jsonPath("$[0].itemCount").value(2))
+                .andExpect(jsonPath("$[0].statusCounts.todo").value(1))
+                .andExpect(jsonPath("$[0].statusCounts.done").value(1))
+                .andExpect(jsonPath("$[0].checklistTotal").value(2))
+                .andExpect(jsonPath("$[0].checklistDone").value(1))
+                .andExpect(jsonPath("$[1].date").value("2026-05-20"))
+                .andExpect(jsonPath("$[1].itemCount").value(1));
+
+        mvc.perform(get("/api/workspace/calendar").param("from", "2025-01-01").param("to", "2026-12-31")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(get("/api/workspace/calendar").param("from", "2025-01-01").param("to", "2026-01-01")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/workspace/calendar").param("from", "2025-01-01").param("to", "2026-01-02")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String createItem(String token, String body) throws Exception {
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+}
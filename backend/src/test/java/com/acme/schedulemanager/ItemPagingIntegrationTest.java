@@ -0,0 +1,74 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ItemPagingIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cursorWalksItemsSharingUpdatedAtWithoutGapsOrDuplicates() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"paging@example.com\",\"nickname\":\"페이지\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"paging@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            var created = mvc.perform(post("/api/workspace/items")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"항목 " + i + "\"}"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            ids.add(UUID.fromString(objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText()));
+        }
+        Timestamp sameInstant = Timestamp.from(Instant.parse("2026-03-01T09:00:00Z"));
+        for (UUID id : ids) {
+            jdbcTemplate.update("update workspace_items set updated_at = ? where id = ?", sameInstant, id);
+        }
+
+        List<UUID> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/workspace/items/page").param("limit", "2").header("Authorization", "Bearer " + token);
+            if (cursor != null) request.param("cursor", cursor);
+            JsonNode body = objectMapper.readTree(mvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+            for (JsonNode item : body.get("items")) walked.add(UUID.fromString(item.get("id").asText()));
+            JsonNode next = body.get("nextCursor");
+            cursor = next == null || next.isNull() ? null : next.asText();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).containsExactlyElementsOf(ids.stream().sorted(Comparator.comparing(UUID::toString).reversed()).toList());
+    }
+}
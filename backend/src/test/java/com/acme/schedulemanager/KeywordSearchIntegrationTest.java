@@ -0,0 +1,173 @@
+package com.acme.schedulemanager;
+
+import com.acme.schedulemanager.domain.entity.WorkspaceItem;
+import com.acme.schedulemanager.domain.repo.WorkspaceItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class KeywordSearchIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    WorkspaceItemRepository itemRepo;
+
+    @Test
+    void koreanSubstringSearchCoversTitleBlocksAndDayNotes() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"search@example.com\",\"nickname\":\"검색\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"search@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        String itemId = createItem(token, "주간 회의록", "2026-04-01");
+        createItem(token, "점심 약속", "2026-04-02");
+
+        mvc.perform(get("/api/workspace/items").param("q", "회의").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(itemId));
+
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"<p>배포 일정 <b>조율</b></p>\\\"}\"}]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/workspace/items").param("q", "일정 조율").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(itemId));
+
+        mvc.perform(put("/api/workspace/items/day-note")
+                        .param("date", "2026-04-02")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"issue\":\"예산 검토 필요\",\"memo\":\"\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/workspace/items").param("q", "검").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("점심 약속"));
+
+        mvc.perform(patch("/api/workspace/items/" + itemId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"주간 보고\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/workspace/items").param("q", "회의록").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void rankedSearchReturnsScoredSnippetsWithCursor() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"rank@example.com\",\"nickname\":\"랭크\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"rank@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        createItem(token, "배포 체크리스트", "2026-05-01");
+        String bodyHit = createItem(token, "주간 보고", "2026-05-02");
+        createItem(token, "배포 회고", "2026-05-03");
+        mvc.perform(put("/api/content/" + bodyHit + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"<p>금요일 배포 예정</p>\\\"}\"}]}"))
+                .andExpect(status().isOk());
+
+        var first = mvc.perform(get("/api/workspace/items/search").param("q", "배포").param("limit", "2")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn();
+        var page = objectMapper.readTree(first.getResponse().getContentAsString());
+        assertThat(page.get("hits")).allSatisfy(hit -> {
+            assertThat(hit.get("item").get("title").asText()).startsWith("배포");
+            assertThat(hit.get("snippet").asText()).contains("<mark>배포</mark>");
+        });
+
+        mvc.perform(get("/api/workspace/items/search").param("q", "배포").param("limit", "2")
+                        .param("cursor", page.get("nextCursor").asText())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits", hasSize(1)))
+                .andExpect(jsonPath("$.hits[0].item.id").value(bodyHit))
+                .andExpect(jsonPath("$.hits[0].snippet").value("금요일 <mark>배포</mark> 예정"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void indexAppliesChangesPublishedByOtherNodes() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"search-remote@example.com\",\"nickname\":\"원격\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"search-remote@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        String itemId = createItem(token, "분기 계획", "2026-06-01");
+        mvc.perform(get("/api/workspace/items").param("q", "분기").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        WorkspaceItem item = itemRepo.findById(UUID.fromString(itemId)).orElseThrow();
+        item.setTitle("연간 계획");
+        itemRepo.save(item);
+        redisTemplate.convertAndSend("workspace:events", objectMapper.writeValueAsString(Map.of(
+                "origin", UUID.randomUUID(),
+                "userId", item.getUserId(),
+                "type", "item",
+                "itemId", item.getId()
+        )));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            var found = mvc.perform(get("/api/workspace/items").param("q", "연간").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            if (objectMapper.readTree(found.getResponse().getContentAsString()).size() == 1) break;
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("remote change was not applied to the search index");
+            Thread.sleep(50);
+        }
+        mvc.perform(get("/api/workspace/items").param("q", "분기").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    private String createItem(String token, String title, String dueDate) throws Exception {
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"dueDate\":\"" + dueDate + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+}
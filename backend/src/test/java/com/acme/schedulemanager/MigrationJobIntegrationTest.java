@@ -0,0 +1,102 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class MigrationJobIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void migrationJobRunsInBackgroundAndReportsProgress() throws Exception {
+        String token = login("migration-job@example.com");
+        MockMultipartFile upload = new MockMultipartFile("file", "export.zip", "application/zip", exportZip());
+
+        var started = mvc.perform(multipart("/api/migration/jobs").file(upload).header("Authorization", "Bearer " + token))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").exists())
+                .andReturn();
+        String jobId = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asText();
+
+        JsonNode job = awaitFinished(token, jobId);
+        assertThat(job.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(job.get("docs").get("done").asInt()).isEqualTo(1);
+        assertThat(job.get("docs").get("total").asInt()).isEqualTo(1);
+        assertThat(job.get("assets").get("done").asInt()).isEqualTo(1);
+        assertThat(job.get("rewrites").get("done").asInt()).isEqualTo(job.get("rewrites").get("total").asInt());
+        assertThat(job.get("persistedItems").asInt()).isEqualTo(1);
+        assertThat(job.get("persistedFiles").asInt()).isEqualTo(1);
+
+        mvc.perform(get("/api/migration/jobs/" + jobId + "/report").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.detectedPatterns").value(hasItem("markdown:export.zip/회의록 정리.md")))
+                .andExpect(jsonPath("$.persistedFiles").value(1));
+
+        mvc.perform(get("/api/migration/jobs").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(jobId));
+
+        mvc.perform(post("/api/migration/jobs/" + jobId + "/resume").header("Authorization", "Bearer " + token))
+                .andExpect(status().isConflict());
+
+        String other = login("migration-other@example.com");
+        mvc.perform(get("/api/migration/jobs/" + jobId).header("Authorization", "Bearer " + other))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode awaitFinished(String token, String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (true) {
+            var response = mvc.perform(get("/api/migration/jobs/" + jobId).header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            JsonNode job = objectMapper.readTree(response.getResponse().getContentAsString());
+            String status = job.get("status").asText();
+            if (!status.equals("QUEUED") && !status.equals("RUNNING")) return job;
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("migration job did not finish: " + job);
+            Thread.sleep(100);
+        }
+    }
+
+    private byte[] exportZip() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("회의록 정리.md"));
+            zip.write("# 회의록 정리\n- 안건 공유\n![image](회의록 정리/board.png)".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("회의록 정리/board.png"));
+            zip.write("PNGDATA".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return out.toByteArray();
+    }
+
+    private String login(String email) throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"nickname\":\"이관\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
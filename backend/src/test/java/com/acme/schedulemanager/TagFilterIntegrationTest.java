@@ -0,0 +1,86 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class TagFilterIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void tagsAreDiffedAndFilterWithAllOrAny() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"tags@example.com\",\"nickname\":\"태그\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"tags@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        String work = createTag(token, "업무");
+        String urgent = createTag(token, "긴급");
+        String first = createItem(token, "첫 번째");
+        String second = createItem(token, "두 번째");
+
+        tag(token, first, "\"" + work + "\",\"" + urgent + "\"");
+        tag(token, second, "\"" + work + "\"");
+
+        mvc.perform(get("/api/workspace/items").param("tags", work, urgent).param("tagMode", "all")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(first));
+
+        mvc.perform(get("/api/workspace/items").param("tags", work, urgent).param("tagMode", "any")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", containsInAnyOrder(first, second)));
+
+        tag(token, first, "\"" + urgent + "\"");
+
+        mvc.perform(get("/api/tags/counts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == '업무')].count").value(1))
+                .andExpect(jsonPath("$[?(@.name == '긴급')].count").value(1));
+    }
+
+    private String createTag(String token, String name) throws Exception {
+        var created = mvc.perform(post("/api/tags")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String createItem(String token, String title) throws Exception {
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private void tag(String token, String itemId, String tagIds) throws Exception {
+        mvc.perform(patch("/api/workspace/items/" + itemId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tagIds\":[" + tagIds + "]}"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,123 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = "app.search.index.enabled=false")
+public class TrigramSearchIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void rankedSearchPagesWithScoresAndSnippetsWithoutIndex() throws Exception {
+        String token = login("trigram-rank@example.com");
+
+        createItem(token, "배포 체크리스트", "2026-05-01");
+        String bodyHit = createItem(token, "주간 보고", "2026-05-02");
+        createItem(token, "배포 회고", "2026-05-03");
+        mvc.perform(put("/api/content/" + bodyHit + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"<p>금요일 배포 예정</p>\\\"}\"}]}"))
+                .andExpect(status().isOk());
+
+        var first = mvc.perform(get("/api/workspace/items/search").param("q", "배포").param("limit", "2")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn();
+        var page = objectMapper.readTree(first.getResponse().getContentAsString());
+        assertThat(page.get("hits")).allSatisfy(hit -> {
+            assertThat(hit.get("item").get("title").asText()).startsWith("배포");
+            assertThat(hit.get("score").asDouble()).isPositive();
+            assertThat(hit.get("snippet").asText()).contains("<mark>배포</mark>");
+        });
+
+        mvc.perform(get("/api/workspace/items/search").param("q", "배포").param("limit", "2")
+                        .param("cursor", page.get("nextCursor").asText())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits", hasSize(1)))
+                .andExpect(jsonPath("$.hits[0].item.id").value(bodyHit))
+                .andExpect(jsonPath("$.hits[0].snippet").value("금요일 <mark>배포</mark> 예정"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void keywordSearchIsScopedToRequestingUser() throws Exception {
+        String owner = login("trigram-owner@example.com");
+        String stranger = login("trigram-stranger@example.com");
+
+        String ownTitle = createItem(owner, "예산 회의", "2026-06-01");
+        String ownBody = createItem(owner, "주간 보고", "2026-06-02");
+        saveHtml(owner, ownBody, "<p>예산 집행 현황</p>");
+        String strangerItem = createItem(stranger, "예산 검토", "2026-06-01");
+        saveHtml(stranger, createItem(stranger, "월간 보고", "2026-06-03"), "<p>예산 초과</p>");
+
+        var found = mvc.perform(get("/api/workspace/items").param("q", "예산").header("Authorization", "Bearer " + owner))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andReturn();
+        assertThat(objectMapper.readTree(found.getResponse().getContentAsString()).findValuesAsText("id"))
+                .containsExactlyInAnyOrder(ownTitle, ownBody);
+
+        mvc.perform(get("/api/workspace/items").param("q", "예산").header("Authorization", "Bearer " + stranger))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[?(@.id == '" + ownTitle + "')]").isEmpty());
+
+        mvc.perform(get("/api/workspace/items").param("q", "%").header("Authorization", "Bearer " + owner))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mvc.perform(get("/api/workspace/items").param("q", "검토").header("Authorization", "Bearer " + owner))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mvc.perform(get("/api/workspace/items").param("q", "검토").header("Authorization", "Bearer " + stranger))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(strangerItem));
+    }
+
+    private void saveHtml(String token, String itemId, String html) throws Exception {
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"" + html + "\\\"}\"}]}"))
+                .andExpect(status().isOk());
+    }
+
+    private String createItem(String token, String title, String dueDate) throws Exception {
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"dueDate\":\"" + dueDate + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String login(String email) throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"nickname\":\"검색\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,64 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class WorkspaceBulkIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void bulkAppliesOperationsAndReportsPerItemResults() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"bulk@example.com\",\"nickname\":\"벌크\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"bulk@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"create\":[{\"title\":\"월요일\",\"dueDate\":\"2026-06-01\"},{\"title\":\"화요일\",\"dueDate\":\"2026-06-02\"},{\"title\":\"\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].success").value(true))
+                .andExpect(jsonPath("$.results[2].success").value(false))
+                .andReturn();
+        var results = objectMapper.readTree(created.getResponse().getContentAsString()).get("results");
+        String monday = results.get(0).get("id").asText();
+        String tuesday = results.get(1).get("id").asText();
+
+        mvc.perform(post("/api/workspace/items/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"update\":[{\"id\":\"" + monday + "\",\"status\":\"done\"},{\"id\":\"" + UUID.randomUUID() + "\",\"status\":\"done\"}],"
+                                + "\"delete\":[\"" + tuesday + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[2].operation").value("delete"))
+                .andExpect(jsonPath("$.results[2].success").value(true));
+
+        mvc.perform(get("/api/workspace/items").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(monday))
+                .andExpect(jsonPath("$[0].status").value("done"));
+    }
+}
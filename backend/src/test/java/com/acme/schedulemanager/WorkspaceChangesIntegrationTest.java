@@ -0,0 +1,65 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class WorkspaceChangesIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void changesReturnUpdatesAndTombstonesSinceCursor() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"changes@example.com\",\"nickname\":\"변경\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"changes@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"부모\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String parentId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+        var child = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"자식\",\"parentId\":\"" + parentId + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String childId = objectMapper.readTree(child.getResponse().getContentAsString()).get("id").asText();
+
+        var initial = mvc.perform(get("/api/workspace/changes").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.resetRequired").value(false))
+                .andReturn();
+        String cursor = objectMapper.readTree(initial.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mvc.perform(delete("/api/workspace/items/" + parentId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/workspace/changes").param("since", cursor).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedItemIds", hasItem(parentId)))
+                .andExpect(jsonPath("$.deletedItemIds", hasItem(childId)));
+
+        mvc.perform(get("/api/workspace/changes").param("since", "not-a-cursor").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,89 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "app.changes.max-rows=3",
+        "app.changes.safety-lag-seconds=0"
+})
+public class WorkspaceChangesPagingIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void cursorAdvancesPastSubtreeDeletionLargerThanPage() throws Exception {
+        String token = login("changes-paging@example.com");
+        String parentId = create(token, "{\"title\":\"부모\"}");
+        List<String> ids = new ArrayList<>(List.of(parentId));
+        for (int i = 0; i < 5; i++) {
+            ids.add(create(token, "{\"title\":\"자식 " + i + "\",\"parentId\":\"" + parentId + "\"}"));
+        }
+
+        Set<String> seen = new HashSet<>();
+        String cursor = walk(token, null, "items", seen);
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(ids);
+
+        mvc.perform(delete("/api/workspace/items/" + parentId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        Set<String> deleted = new HashSet<>();
+        walk(token, cursor, "deletedItemIds", deleted);
+        assertThat(deleted).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    private String walk(String token, String cursor, String field, Set<String> seen) throws Exception {
+        for (int page = 0; page < 20; page++) {
+            var request = get("/api/workspace/changes").header("Authorization", "Bearer " + token);
+            if (cursor != null) request.param("since", cursor);
+            var response = mvc.perform(request).andExpect(status().isOk()).andReturn();
+            JsonNode body = objectMapper.readTree(response.getResponse().getContentAsString());
+            for (JsonNode node : body.get(field)) {
+                seen.add(node.isTextual() ? node.asText() : node.get("id").asText());
+            }
+            String next = body.get("nextCursor").asText();
+            if (!body.get("hasMore").asBoolean()) return next;
+            assertThat(next).isNotEqualTo(cursor);
+            cursor = next;
+        }
+        throw new AssertionError("change cursor did not reach the end");
+    }
+
+    private String create(String token, String body) throws Exception {
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String login(String email) throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"nickname\":\"변경\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
@@ -1,12 +1,21 @@
 package com.acme.schedulemanager;
 
+import com.acme.schedulemanager.common.ApiMediaTypes;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -17,6 +26,9 @@ public class WorkspaceContentIntegrationTest extends IntegrationTestBase {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Test
     void workspaceCrudAndBlockSaveLoad() throws Exception {
         mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
@@ -49,4 +61,383 @@ public class WorkspaceContentIntegrationTest extends IntegrationTestBase {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.blocks[0].content").exists());
     }
+
+    @Test
+    void blockSaveWritesOnlyChangedBlocks() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"diff@example.com\",\"nickname\":\"차분\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"diff@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"차분 저장\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        var first = mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":["
+                                + "{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"첫째\\\"}\"},"
+                                + "{\"sortOrder\":1,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"둘째\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andReturn();
+        JsonNode saved = objectMapper.readTree(first.getResponse().getContentAsString()).get("blocks");
+        String firstId = saved.get(0).get("id").asText();
+        String secondId = saved.get(1).get("id").asText();
+
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":["
+                                + "{\"id\":\"" + firstId + "\",\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"첫째\\\"}\"},"
+                                + "{\"id\":\"" + secondId + "\",\"sortOrder\":1,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"둘째 수정\\\"}\"},"
+                                + "{\"sortOrder\":2,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"셋째\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.deleted").value(0))
+                .andExpect(jsonPath("$.unchanged").value(1))
+                .andExpect(jsonPath("$.blocks[0].id").value(firstId))
+                .andExpect(jsonPath("$.blocks[1].id").value(secondId));
+
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":["
+                                + "{\"id\":\"" + firstId + "\",\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"첫째\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2))
+                .andExpect(jsonPath("$.unchanged").value(1));
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks.length()").value(1))
+                .andExpect(jsonPath("$.blocks[0].id").value(firstId));
+    }
+
+    @Test
+    void idlessSaveMatchesExistingBlocksBySortOrder() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"idless@example.com\",\"nickname\":\"무아이디\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"idless@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"편집기 저장\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        String body = "{\"blocks\":["
+                + "{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"<p>첫째</p>\\\"}\"},"
+                + "{\"sortOrder\":1,\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"<p>둘째</p>\\\"}\"}]}";
+        var first = mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andReturn();
+        JsonNode saved = objectMapper.readTree(first.getResponse().getContentAsString());
+        String firstId = saved.get("blocks").get(0).get("id").asText();
+        long version = saved.get("version").asLong();
+
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(0))
+                .andExpect(jsonPath("$.deleted").value(0))
+                .andExpect(jsonPath("$.unchanged").value(2))
+                .andExpect(jsonPath("$.version").value(version))
+                .andExpect(jsonPath("$.blocks[0].id").value(firstId));
+
+        // 해시 컬럼이 생기기 전에 저장된 블록
+        jdbcTemplate.update("update blocks set content_hash = null where item_id = ?", UUID.fromString(itemId));
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.replace("둘째", "둘째 수정")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(0))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.unchanged").value(1))
+                .andExpect(jsonPath("$.blocks[0].id").value(firstId));
+    }
+
+    @Test
+    void blockPatchAppliesOperationsAgainstVersion() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"patch@example.com\",\"nickname\":\"패치\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"patch@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"부분 저장\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        var saved = mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"원본\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode savedBody = objectMapper.readTree(saved.getResponse().getContentAsString());
+        long version = savedBody.get("version").asLong();
+        String blockId = savedBody.get("blocks").get(0).get("id").asText();
+
+        mvc.perform(patch("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseVersion\":" + version + ",\"operations\":["
+                                + "{\"op\":\"update\",\"id\":\"" + blockId + "\",\"content\":\"{\\\"text\\\":\\\"수정\\\"}\"},"
+                                + "{\"op\":\"insert\",\"sortOrder\":1,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"추가\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version + 1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.insertedIds.length()").value(1));
+
+        mvc.perform(patch("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseVersion\":" + version + ",\"operations\":[{\"op\":\"delete\",\"id\":\"" + blockId + "\"}]}"))
+                .andExpect(status().isConflict());
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version + 1))
+                .andExpect(jsonPath("$.blocks.length()").value(2))
+                .andExpect(jsonPath("$.blocks[0].content").value(containsString("수정")));
+    }
+
+    @Test
+    void blockRevisionsCanBeListedAndReconstructed() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"revision@example.com\",\"nickname\":\"이력\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"revision@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"이력 항목\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        var saved = mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"원본\\\"}\"}]}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String blockId = objectMapper.readTree(saved.getResponse().getContentAsString()).get("blocks").get(0).get("id").asText();
+
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"id\":\"" + blockId + "\",\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"수정본\\\"}\"},"
+                                + "{\"sortOrder\":1,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"추가\\\"}\"}]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"id\":\"" + blockId + "\",\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"수정본\\\"}\"}]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/content/" + itemId + "/revisions").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].revision").value(3))
+                .andExpect(jsonPath("$[0].snapshot").value(false))
+                .andExpect(jsonPath("$[2].snapshot").value(true));
+
+        mvc.perform(get("/api/content/" + itemId + "/revisions/1").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks.length()").value(1))
+                .andExpect(jsonPath("$.blocks[0].id").value(blockId))
+                .andExpect(jsonPath("$.blocks[0].content").value(containsString("원본")));
+
+        mvc.perform(get("/api/content/" + itemId + "/revisions/2").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks.length()").value(2))
+                .andExpect(jsonPath("$.blocks[0].content").value(containsString("수정본")))
+                .andExpect(jsonPath("$.blocks[1].content").value(containsString("추가")));
+
+        mvc.perform(get("/api/content/" + itemId + "/revisions/3").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks.length()").value(1));
+
+        mvc.perform(get("/api/content/" + itemId + "/revisions/4").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void repeatedIdlessSavesKeepRevisionStorageSmall() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"revsize@example.com\",\"nickname\":\"이력크기\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"revsize@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"긴 문서\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        // 기능 도입 전부터 있던 본문
+        String html = "<p>" + "가".repeat(5000) + "</p>";
+        jdbcTemplate.update("insert into blocks (id, item_id, sort_order, type, content, created_at, updated_at) "
+                        + "values (?, ?, 0, 'paragraph', cast(? as jsonb), now(), now())",
+                UUID.randomUUID(), UUID.fromString(itemId), objectMapper.writeValueAsString(Map.of("html", html)));
+
+        for (int i = 0; i < 10; i++) {
+            html += "<p>메모 " + i + "</p>";
+            mvc.perform(put("/api/content/" + itemId + "/blocks")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("blocks", List.of(
+                                    Map.of("sortOrder", 0, "type", "paragraph", "content", objectMapper.writeValueAsString(Map.of("html", html)))
+                            )))))
+                    .andExpect(status().isOk());
+        }
+
+        var revisions = mvc.perform(get("/api/content/" + itemId + "/revisions").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(11))
+                .andReturn();
+        long total = 0;
+        for (JsonNode revision : objectMapper.readTree(revisions.getResponse().getContentAsString())) {
+            total += revision.get("size").asLong();
+        }
+        assertThat(total).isLessThan(2 * 5000L);
+
+        mvc.perform(get("/api/content/" + itemId + "/revisions/1").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks.length()").value(1))
+                .andExpect(jsonPath("$.blocks[0].content").value(not(containsString("메모"))));
+        mvc.perform(get("/api/content/" + itemId + "/revisions/11").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks[0].content").value(containsString("메모 9")));
+    }
+
+    @Test
+    void rawContentModeEmbedsBlockJson() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"raw@example.com\",\"nickname\":\"원본\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"raw@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"원본 JSON\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[{\"sortOrder\":0,\"type\":\"paragraph\",\"content\":\"{\\\"text\\\":\\\"본문\\\",\\\"level\\\":2}\"}]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(ApiMediaTypes.RAW_CONTENT_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ApiMediaTypes.RAW_CONTENT_JSON_VALUE))
+                .andExpect(jsonPath("$.blocks[0].content.text").value("본문"))
+                .andExpect(jsonPath("$.blocks[0].content.level").value(2));
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks[0].content").isString());
+    }
+
+    @Test
+    void blocksCanBeLoadedInPages() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"paging@example.com\",\"nickname\":\"페이지\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"paging@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"긴 문서\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        StringBuilder blocks = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            if (i > 0) blocks.append(',');
+            blocks.append("{\"sortOrder\":").append(i).append(",\"type\":\"paragraph\",\"content\":\"{\\\"html\\\":\\\"<p>").append(i).append("</p>\\\"}\"}");
+        }
+        mvc.perform(put("/api/content/" + itemId + "/blocks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"blocks\":[" + blocks + "]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks?offset=0&limit=2").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.blocks.length()").value(2))
+                .andExpect(jsonPath("$.blocks[0].sortOrder").value(0));
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks?offset=4&limit=2").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.blocks.length()").value(1))
+                .andExpect(jsonPath("$.blocks[0].sortOrder").value(4));
+
+        mvc.perform(get("/api/content/" + itemId + "/blocks?offset=-1&limit=2").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,81 @@
+package com.acme.schedulemanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class WorkspaceTreeIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void moveRewritesSubtreeAndTreeQueriesFollow() throws Exception {
+        mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"tree@example.com\",\"nickname\":\"트리\",\"password\":\"Passw0rd!\"}")).andExpect(status().isOk());
+
+        var login = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"tree@example.com\",\"password\":\"Passw0rd!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        String a = createItem(token, "A", null);
+        String b = createItem(token, "B", a);
+        String c = createItem(token, "C", b);
+        String d = createItem(token, "D", null);
+
+        mvc.perform(get("/api/workspace/items/tree").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[?(@.item.id == '" + a + "')].childCount").value(1))
+                .andExpect(jsonPath("$[?(@.item.id == '" + d + "')].childCount").value(0));
+
+        mvc.perform(post("/api/workspace/items/" + b + "/move")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentId\":\"" + d + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parentId").value(d));
+
+        mvc.perform(get("/api/workspace/items/" + d + "/subtree").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", containsInAnyOrder(d, b, c)));
+
+        mvc.perform(get("/api/workspace/items/" + a + "/subtree").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        mvc.perform(get("/api/workspace/items/tree").param("parentId", d).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].item.id").value(b))
+                .andExpect(jsonPath("$[0].childCount").value(1));
+
+        mvc.perform(post("/api/workspace/items/" + d + "/move")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentId\":\"" + c + "\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String createItem(String token, String title, String parentId) throws Exception {
+        String parent = parentId == null ? "" : ",\"parentId\":\"" + parentId + "\"";
+        var created = mvc.perform(post("/api/workspace/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\"" + parent + "}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+}
@@ -0,0 +1,43 @@
+package com.acme.schedulemanager.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlChunkerTest {
+    private static final String BREAK = HtmlChunker.SECTION_BREAK;
+
+    @Test
+    void keepsSmallHtmlInOneChunk() {
+        String html = "<p>본문</p>" + BREAK + "하위</h3><p>내용</p>";
+
+        assertThat(HtmlChunker.split(html, 1000)).containsExactly(html);
+    }
+
+    @Test
+    void packsSectionsGreedilyAtSectionBreaks() {
+        String head = "<p>" + "a".repeat(60) + "</p>";
+        String first = BREAK + "1</h3><p>" + "b".repeat(20) + "</p>";
+        String second = BREAK + "2</h3><p>" + "c".repeat(20) + "</p>";
+        String third = BREAK + "3</h3><p>" + "d".repeat(20) + "</p>";
+        int max = head.length() + first.length();
+
+        List<String> chunks = HtmlChunker.split(head + first + second + third, max);
+
+        assertThat(chunks).containsExactly(head + first, second + third);
+    }
+
+    @Test
+    void leavesSingleOversizedSectionWhole() {
+        String head = "<p>머리</p>";
+        String huge = BREAK + "큰 페이지</h3><p>" + "x".repeat(500) + "</p>";
+        String tail = BREAK + "끝</h3>";
+
+        List<String> chunks = HtmlChunker.split(head + huge + tail, 100);
+
+        assertThat(chunks).containsExactly(head, huge, tail);
+        assertThat(String.join("", chunks)).isEqualTo(head + huge + tail);
+    }
+}
@@ -0,0 +1,46 @@
+package com.acme.schedulemanager.content;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevisionDeltaTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void unchangedLinesAreCopied() throws Exception {
+        List<String> previous = List.of(line(UUID.randomUUID(), 0, "첫째"), line(UUID.randomUUID(), 1, "둘째"));
+        List<String> current = List.of(previous.get(0), previous.get(1), line(UUID.randomUUID(), 2, "셋째"));
+
+        ArrayNode ops = RevisionDelta.diff(objectMapper, previous, current);
+
+        assertThat(ops.toString()).startsWith("[[\"c\",0,2],[\"i\",");
+        assertThat(RevisionDelta.apply(previous, ops)).isEqualTo(current);
+    }
+
+    @Test
+    void changedBlockIdsAreRecordedAsSmallEdits() throws Exception {
+        String body = "<p>" + "가".repeat(2000) + "</p>";
+        List<String> previous = List.of(line(UUID.randomUUID(), 0, body), line(UUID.randomUUID(), 1, body + "<p>끝</p>"));
+        List<String> current = List.of(line(UUID.randomUUID(), 0, body), line(UUID.randomUUID(), 1, body + "<p>끝 수정</p>"));
+
+        ArrayNode ops = RevisionDelta.diff(objectMapper, previous, current);
+
+        assertThat(ops).hasSize(2);
+        assertThat(ops.get(0).get(0).asText()).isEqualTo("k");
+        assertThat(ops.get(1).get(0).asText()).isEqualTo("k");
+        assertThat(ops.toString().length()).isLessThan(200);
+        assertThat(RevisionDelta.apply(previous, ops)).isEqualTo(current);
+    }
+
+    private String line(UUID id, int sortOrder, String html) throws Exception {
+        String content = objectMapper.writeValueAsString(Map.of("html", html));
+        return objectMapper.writeValueAsString(List.of(id.toString(), sortOrder, "paragraph", content));
+    }
+}
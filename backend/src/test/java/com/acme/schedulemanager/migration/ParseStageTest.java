@@ -0,0 +1,79 @@
+package com.acme.schedulemanager.migration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParseStageTest {
+    @Test
+    void parallelModeKeepsInputOrderAndBoundsLookahead() {
+        ParseStage stage = new ParseStage(true, 3);
+        List<Integer> sources = IntStream.range(0, 40).boxed().toList();
+        AtomicInteger started = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<String> results = new ArrayList<>();
+        try (var pipeline = stage.map(sources, n -> {
+            started.incrementAndGet();
+            threads.add(Thread.currentThread().getName());
+            sleepQuietly((40 - n) % 7);
+            return "doc-" + n;
+        })) {
+            while (pipeline.hasNext()) {
+                results.add(pipeline.next());
+                assertThat(started.get()).isLessThanOrEqualTo(results.size() + 6);
+            }
+        } finally {
+            stage.shutdown();
+        }
+
+        assertThat(results).containsExactlyElementsOf(sources.stream().map(n -> "doc-" + n).toList());
+        assertThat(threads).allMatch(name -> name.startsWith("migration-parse-"));
+    }
+
+    @Test
+    void sequentialModeParsesOnCallerThread() {
+        ParseStage stage = new ParseStage(false, 0);
+        String caller = Thread.currentThread().getName();
+        List<String> results = new ArrayList<>();
+        try (var pipeline = stage.map(List.of("a", "b", "c"), s -> s + "@" + Thread.currentThread().getName())) {
+            pipeline.forEachRemaining(results::add);
+        }
+
+        assertThat(results).containsExactly("a@" + caller, "b@" + caller, "c@" + caller);
+    }
+
+    @Test
+    void rethrowsParseFailureAndWaitsForSubmittedWorkOnClose() {
+        ParseStage stage = new ParseStage(true, 2);
+        AtomicInteger finished = new AtomicInteger();
+        try {
+            var pipeline = stage.map(List.of(1, 2, 3, 4), n -> {
+                if (n == 1) throw new IllegalArgumentException("깨진 문서");
+                sleepQuietly(20);
+                finished.incrementAndGet();
+                return n;
+            });
+            assertThatThrownBy(pipeline::next).isInstanceOf(IllegalArgumentException.class).hasMessage("깨진 문서");
+            pipeline.close();
+            assertThat(finished.get()).isEqualTo(3);
+        } finally {
+            stage.shutdown();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.acme.schedulemanager.migration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZipSpoolTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsNestedArchivesLazilyAndDeletesNestedTempFiles() throws IOException {
+        byte[] inner = zip(Map.of("하위 문서.md", "# 하위".getBytes(StandardCharsets.UTF_8)));
+        Map<String, byte[]> top = new LinkedHashMap<>();
+        top.put("items.csv", "title,date\n회의,2024-01-02".getBytes(StandardCharsets.UTF_8));
+        top.put("pages/nested.zip", inner);
+        List<String> failures = new ArrayList<>();
+
+        try (ZipSpool spool = ZipSpool.open(upload(zip(top)), "upload.zip", dir, 4, 1024, failures)) {
+            assertThat(spool.entries()).extracting(ZipSpool.Entry::path)
+                    .containsExactly("upload.zip/items.csv", "upload.zip/pages/nested.zip/하위 문서.md");
+            assertThat(new String(spool.entries().get(1).readBytes(), StandardCharsets.UTF_8)).isEqualTo("# 하위");
+            assertThat(nestedFiles()).hasSize(1);
+        }
+
+        assertThat(failures).isEmpty();
+        assertThat(nestedFiles()).isEmpty();
+        assertThat(dir.resolve("upload.zip")).exists();
+    }
+
+    @Test
+    void rejectsEntriesOverLimitAndArchivesTooDeep() throws IOException {
+        byte[] deepest = zip(Map.of("deep.md", "deep".getBytes(StandardCharsets.UTF_8)));
+        Map<String, byte[]> top = new LinkedHashMap<>();
+        top.put("big.html", new byte[2048]);
+        top.put("level1.zip", zip(Map.of("level2.zip", deepest)));
+        List<String> failures = new ArrayList<>();
+
+        try (ZipSpool spool = ZipSpool.open(upload(zip(top)), "upload.zip", dir, 1, 1024, failures)) {
+            assertThat(spool.entries()).extracting(ZipSpool.Entry::path).containsExactly("upload.zip/big.html");
+            assertThatThrownBy(() -> spool.entries().get(0).readBytes()).isInstanceOf(IOException.class);
+        }
+
+        assertThat(failures).singleElement().asString().contains("upload.zip/level1.zip/level2.zip");
+    }
+
+    @Test
+    void reportsUnreadableArchive() throws IOException {
+        List<String> failures = new ArrayList<>();
+
+        try (ZipSpool spool = ZipSpool.open(upload("zip 아님".getBytes(StandardCharsets.UTF_8)), "broken.zip", dir, 4, 1024, failures)) {
+            assertThat(spool.entries()).isEmpty();
+        }
+
+        assertThat(failures).singleElement().asString().startsWith("ZIP 펼치기 실패(broken.zip)");
+    }
+
+    private Path upload(byte[] bytes) throws IOException {
+        return Files.write(dir.resolve("upload.zip"), bytes);
+    }
+
+    private List<Path> nestedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("nested-")).toList();
+        }
+    }
+
+    private static byte[] zip(Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,128 @@
+package com.acme.schedulemanager.workspace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardSummarizerGoldenTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BoardSummarizer summarizer = new BoardSummarizer(objectMapper);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"worklog.html", "meeting.html", "notion-import.html"})
+    void scannerMatchesJsoupOnGoldenCorpus(String name) throws Exception {
+        String html = corpus(name);
+
+        BoardSummary scanned = HtmlSummaryScanner.scan(html);
+
+        assertThat(scanned).isNotNull();
+        assertThat(scanned).isEqualTo(summarizer.summarizeWithJsoup(html));
+    }
+
+    @Test
+    void worklogSummaryIsStable() throws Exception {
+        BoardSummary summary = summarizer.summarize(objectMapper.writeValueAsString(Map.of("html", corpus("worklog.html"))));
+
+        assertThat(summary.todayWork()).isEqualTo("[x] 배포 파이프라인 점검 [ ] 결제 모듈 리팩터링 & 테스트 보강 [x] 코드 리뷰 3건 처리");
+        assertThat(summary.issue()).isEqualTo("스테이징 DB 커넥션 풀 고갈 — 원인 분석 중 / 외부 API 응답 지연 <3s>");
+        assertThat(summary.memo()).isEqualTo("다음 주 월요일 회고 준비");
+        assertThat(summary.checklistTotal()).isEqualTo(3);
+        assertThat(summary.checklistDone()).isEqualTo(2);
+    }
+
+    @Test
+    void longSectionsAreCutAtBudget() throws Exception {
+        BoardSummary summary = HtmlSummaryScanner.scan(corpus("meeting.html"));
+
+        assertThat(summary).isNotNull();
+        assertThat(summary.todayWork()).hasSize(BoardSummarizer.MAX_TEXT_LENGTH + 3).endsWith("...");
+    }
+
+    @Test
+    void scannerMatchesJsoupAroundSectionBudget() {
+        List<String> headings = List.of("<h2>오늘의 업무</h2>", "<h3>이슈</h3>", "<h4>메모</h4>");
+        List<String> prefixes = List.of("", "<p>ab</p>", "<p>abcdef</p>");
+        List<String> tails = List.of("", "<p>n</p>", "<p>n</p><p>m</p>", "<p> </p>", "<p>&nbsp;z</p>", "<p><b>b</b> c</p>",
+                "<ul><li>[x] 완료</li></ul>", "<h3>기타</h3><p>q</p>");
+        Random random = new Random(7);
+        for (String heading : headings) {
+            for (String prefix : prefixes) {
+                for (int length = 115; length <= 125; length++) {
+                    for (String tail : tails) {
+                        String html = heading + prefix + "<p>" + hangul(random, length) + "</p>" + tail;
+                        assertScannerMatchesJsoup(html);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void scannerMatchesJsoupOnRandomDocuments() {
+        List<String> headings = List.of("<h1>요청내용</h1>", "<h2>오늘의 업무</h2>", "<h3>이슈</h3>", "<h4>메모</h4>", "<h3>기타</h3>");
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder html = new StringBuilder();
+            int blocks = 1 + random.nextInt(8);
+            for (int b = 0; b < blocks; b++) {
+                int kind = random.nextInt(10);
+                if (kind < 2) {
+                    html.append(headings.get(random.nextInt(headings.size())));
+                } else if (kind < 3) {
+                    html.append("<ul><li>").append(random.nextBoolean() ? "[x] " : "[ ] ").append(words(random, random.nextInt(60))).append("</li></ul>");
+                } else {
+                    html.append("<p>").append(random.nextInt(4) == 0 ? " " : "")
+                            .append(words(random, random.nextInt(5) == 0 ? random.nextInt(3) : 30 + random.nextInt(100)));
+                    if (random.nextInt(3) == 0) html.append(" <b>").append(words(random, random.nextInt(10))).append("</b>");
+                    html.append("</p>");
+                }
+            }
+            assertScannerMatchesJsoup(html.toString());
+        }
+    }
+
+    @Test
+    void unsupportedMarkupFallsBackToJsoup() throws Exception {
+        String html = corpus("fallback.html");
+
+        assertThat(HtmlSummaryScanner.scan(html)).isNull();
+        assertThat(summarizer.summarize(objectMapper.writeValueAsString(Map.of("html", html))))
+                .isEqualTo(summarizer.summarizeWithJsoup(html));
+    }
+
+    private String corpus(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/board-summary/" + name)) {
+            assertThat(in).as(name).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void assertScannerMatchesJsoup(String html) {
+        BoardSummary scanned = HtmlSummaryScanner.scan(html);
+
+        assertThat(scanned).as(html).isNotNull();
+        assertThat(scanned).as(html).isEqualTo(summarizer.summarizeWithJsoup(html));
+    }
+
+    private static String hangul(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) text.append((char) ('가' + random.nextInt(50)));
+        return text.toString();
+    }
+
+    private static String words(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) text.append(random.nextInt(6) == 0 ? ' ' : (char) ('a' + random.nextInt(26)));
+        return text.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package com.acme.schedulemanager.workspace;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+class RecordingSseEmitter extends SseEmitter {
+    final List<String> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release;
+    private volatile boolean failing;
+    private volatile boolean completed;
+
+    RecordingSseEmitter() {
+        this(new CountDownLatch(0));
+    }
+
+    RecordingSseEmitter(CountDownLatch release) {
+        super(0L);
+        this.release = release;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        if (failing) throw new IOException("client gone");
+        events.add(builder.build().stream().map(part -> String.valueOf(part.getData())).collect(Collectors.joining()));
+    }
+
+    @Override
+    public void complete() {
+        completed = true;
+    }
+
+    void failSends() {
+        failing = true;
+    }
+
+    boolean completed() {
+        return completed;
+    }
+
+    boolean received(String eventName) {
+        return events.stream().anyMatch(event -> event.startsWith("event:" + eventName + "\n"));
+    }
+}
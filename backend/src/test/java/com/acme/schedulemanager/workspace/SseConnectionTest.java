@@ -0,0 +1,46 @@
+package com.acme.schedulemanager.workspace;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseConnectionTest {
+    @Test
+    void queueIsBoundedAndDrainsInOrder() {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        SseConnection connection = new SseConnection(emitter, 2);
+
+        assertThat(connection.offer(SseEmitter.event().name("first").data("1"))).isTrue();
+        assertThat(connection.offer(SseEmitter.event().name("second").data("2"))).isTrue();
+        assertThat(connection.offer(SseEmitter.event().name("third").data("3"))).isFalse();
+        assertThat(connection.hasPending()).isTrue();
+
+        assertThat(connection.tryStartDrain()).isTrue();
+        assertThat(connection.tryStartDrain()).isFalse();
+        connection.drain();
+
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(0)).startsWith("event:first\n");
+        assertThat(emitter.events.get(1)).startsWith("event:second\n");
+        assertThat(connection.hasPending()).isFalse();
+        assertThat(connection.tryStartDrain()).isTrue();
+    }
+
+    @Test
+    void sendFailureClosesConnectionAndRejectsFurtherEvents() {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        emitter.failSends();
+        SseConnection connection = new SseConnection(emitter, 4);
+        connection.offer(SseEmitter.event().name("first").data("1"));
+        connection.offer(SseEmitter.event().name("second").data("2"));
+
+        connection.tryStartDrain();
+        connection.drain();
+
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(connection.hasPending()).isFalse();
+        assertThat(emitter.completed()).isTrue();
+        assertThat(connection.offer(SseEmitter.event().name("third").data("3"))).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package com.acme.schedulemanager.workspace;
+
+import com.acme.schedulemanager.IntegrationTestBase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "app.stream.queue-capacity=2",
+        "app.stream.max-connections-per-user=2",
+        "app.stream.heartbeat-ms=600000"
+})
+class WorkspaceEventStreamIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    WorkspaceEventStream stream;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void changesFanOutThroughRedisToOwnerConnectionsOnly() throws Exception {
+        UUID owner = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        RecordingSseEmitter ownerEmitter = new RecordingSseEmitter();
+        RecordingSseEmitter otherEmitter = new RecordingSseEmitter();
+        stream.open(owner, ownerEmitter);
+        stream.open(other, otherEmitter);
+
+        stream.onItemChanged(new ItemChangedEvent(owner, UUID.randomUUID(), null, LocalDate.of(2026, 7, 1)));
+
+        await(() -> ownerEmitter.received("item"));
+        assertThat(ownerEmitter.received("ready")).isTrue();
+        assertThat(otherEmitter.received("ready")).isTrue();
+        assertThat(otherEmitter.received("item")).isFalse();
+    }
+
+    @Test
+    void oldestConnectionIsClosedOverPerUserCap() {
+        UUID userId = UUID.randomUUID();
+        RecordingSseEmitter first = new RecordingSseEmitter();
+        RecordingSseEmitter second = new RecordingSseEmitter();
+        RecordingSseEmitter third = new RecordingSseEmitter();
+
+        stream.open(userId, first);
+        stream.open(userId, second);
+        stream.open(userId, third);
+
+        assertThat(first.completed()).isTrue();
+        assertThat(second.completed()).isFalse();
+        assertThat(third.completed()).isFalse();
+        assertThat(stream.connectionCount(userId)).isEqualTo(2);
+    }
+
+    @Test
+    void slowConsumerIsDroppedWhenQueueIsFull() throws Exception {
+        UUID userId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSseEmitter slow = new RecordingSseEmitter(release);
+        double droppedBefore = meterRegistry.counter("workspace.stream.dropped").count();
+        try {
+            stream.open(userId, slow);
+            for (int i = 0; i < 3; i++) {
+                stream.onMessage(message(userId), null);
+            }
+
+            assertThat(slow.completed()).isTrue();
+            assertThat(stream.connectionCount(userId)).isZero();
+            assertThat(meterRegistry.counter("workspace.stream.dropped").count()).isEqualTo(droppedBefore + 1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private DefaultMessage message(UUID userId) throws Exception {
+        String body = objectMapper.writeValueAsString(new WorkspaceEventStream.StreamMessage(UUID.randomUUID(), userId, "content", UUID.randomUUID(), null));
+        return new DefaultMessage(WorkspaceEventStream.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("condition not met within 5s");
+            Thread.sleep(20);
+        }
+    }
+}
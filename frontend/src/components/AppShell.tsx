@@ -137,11 +137,17 @@ function normalizeFileUrls(html: string) {
   return doc.body.innerHTML
 }
 
+// 분할 저장된 본문은 뒤쪽 조각(continued)을 이어 붙여 한 문서로 편집하고, 저장하면 서버가 다시 나눈다.
 function blocksToHtml(blocks: BlockPayload[]) {
   if (!blocks || blocks.length === 0) return '<p></p>'
   const parsed = parseContent(blocks[0].content)
-  if (parsed && typeof parsed.html === 'string') return normalizeFileUrls(parsed.html)
-  return '<p></p>'
+  if (!parsed || typeof parsed.html !== 'string') return '<p></p>'
+  let html = parsed.html
+  for (const block of blocks.slice(1)) {
+    const chunk = parseContent(block.content)
+    if (chunk?.continued === true && typeof chunk.html === 'string') html += chunk.html
+  }
+  return normalizeFileUrls(html)
 }
 
 function denormalizeFileUrls(html: string) {
@@ -0,0 +1,66 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ITEMS = Number(__ENV.ITEMS || 60);
+
+export const options = {
+  scenarios: {
+    read: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: __ENV.RAMP || '30s', target: Number(__ENV.VUS || 200) },
+        { duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 200) },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+function json(body, token) {
+  const headers = { 'Content-Type': 'application/json' };
+  if (token) headers.Authorization = `Bearer ${token}`;
+  return { headers, body: JSON.stringify(body) };
+}
+
+export function setup() {
+  const email = `load-${Date.now()}@example.com`;
+  const password = 'Passw0rd!';
+  const register = json({ email, nickname: '부하', password });
+  http.post(`${BASE_URL}/api/auth/register`, register.body, { headers: register.headers });
+  const login = json({ email, password });
+  const token = http.post(`${BASE_URL}/api/auth/login`, login.body, { headers: login.headers }).json('accessToken');
+
+  const itemIds = [];
+  for (let i = 0; i < ITEMS; i++) {
+    const day = String((i % 28) + 1).padStart(2, '0');
+    const item = json({ title: `부하 테스트 항목 ${i}`, dueDate: `2026-03-${day}` }, token);
+    const id = http.post(`${BASE_URL}/api/workspace/items`, item.body, { headers: item.headers }).json('id');
+    const blocks = json({
+      blocks: [{
+        sortOrder: 0,
+        type: 'paragraph',
+        content: JSON.stringify({ html: `<h3>오늘의 업무</h3><ul><li>[x] 작업 ${i}</li><li>[ ] 점검 ${i}</li></ul><h3>이슈</h3><p>이슈 ${i}</p>` }),
+      }],
+    }, token);
+    http.put(`${BASE_URL}/api/content/${id}/blocks`, blocks.body, { headers: blocks.headers });
+    itemIds.push(id);
+  }
+  return { token, itemIds };
+}
+
+export default function (data) {
+  const params = { headers: { Authorization: `Bearer ${data.token}` } };
+  const itemId = data.itemIds[Math.floor(Math.random() * data.itemIds.length)];
+  const responses = http.batch([
+    ['GET', `${BASE_URL}/api/workspace/items/board?month=2026-03`, null, { ...params, tags: { name: 'board' } }],
+    ['GET', `${BASE_URL}/api/workspace/items/search?q=${encodeURIComponent('작업')}`, null, { ...params, tags: { name: 'search' } }],
+    ['GET', `${BASE_URL}/api/content/${itemId}/blocks`, null, { ...params, tags: { name: 'content' } }],
+    ['GET', `${BASE_URL}/api/workspace/items/recent`, null, { ...params, tags: { name: 'recent' } }],
+  ]);
+  responses.forEach((res) => check(res, { 'status 200': (r) => r.status === 200 }));
+}